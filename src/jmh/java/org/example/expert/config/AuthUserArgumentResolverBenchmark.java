@@ -0,0 +1,48 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthUserArgumentResolverBenchmark {
+
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+    private ServletWebRequest webRequest;
+    private MockHttpServletRequest legacyRequest;
+
+    @Setup
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(1L, "user@gmail.com", UserRole.USER));
+        webRequest = new ServletWebRequest(request);
+
+        // 이전 방식: userId, email, userRole 을 각각 attribute 로 저장
+        legacyRequest = new MockHttpServletRequest();
+        legacyRequest.setAttribute("userId", 1L);
+        legacyRequest.setAttribute("email", "user@gmail.com");
+        legacyRequest.setAttribute("userRole", "USER");
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(null, null, webRequest, null);
+    }
+
+    @Benchmark
+    public Object legacyResolveArgument() {
+        Long userId = (Long) legacyRequest.getAttribute("userId");
+        String email = (String) legacyRequest.getAttribute("email");
+        UserRole userRole = UserRole.of((String) legacyRequest.getAttribute("userRole"));
+        return new AuthUser(userId, email, userRole);
+    }
+}
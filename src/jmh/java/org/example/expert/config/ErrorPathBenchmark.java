@@ -0,0 +1,85 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 4xx 응답 경로(예외 생성 → 핸들러 → JSON 직렬화)를 여러 스레드에서 반복합니다.
+ * legacy* 는 스택 트레이스를 채우는 예외와 HashMap 응답으로 바꾸기 전의 방식입니다.
+ * 실제 요청은 필터/인터셉터/프록시를 거쳐 스택이 깊으므로 STACK_DEPTH 만큼 내려간 뒤 던집니다.
+ * ./gradlew jmh -PjmhArgs="ErrorPathBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private static final int STACK_DEPTH = 100;
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public String stackless() throws JsonProcessingException {
+        try {
+            throwAt(STACK_DEPTH, false);
+            return null;
+        } catch (InvalidRequestException e) {
+            return objectMapper.writeValueAsString(handler.invalidRequestExceptionException(e).getBody());
+        }
+    }
+
+    @Benchmark
+    public String legacy() throws JsonProcessingException {
+        try {
+            throwAt(STACK_DEPTH, true);
+            return null;
+        } catch (LegacyInvalidRequestException e) {
+            return objectMapper.writeValueAsString(legacyErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage()).getBody());
+        }
+    }
+
+    private static void throwAt(int depth, boolean legacy) {
+        if (depth > 0) {
+            throwAt(depth - 1, legacy);
+            return;
+        }
+        if (legacy) {
+            throw new LegacyInvalidRequestException("Todo not found");
+        }
+        throw new InvalidRequestException("Todo not found");
+    }
+
+    private static ResponseEntity<Map<String, Object>> legacyErrorResponse(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", message);
+
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+    private static class LegacyInvalidRequestException extends RuntimeException {
+        private LegacyInvalidRequestException(String message) {
+            super(message);
+        }
+    }
+}
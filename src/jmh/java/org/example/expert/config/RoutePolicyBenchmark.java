@@ -0,0 +1,40 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 의 경로 판단 비용을 startsWith 체인(이전 방식)과 RoutePolicyMatcher 로 비교합니다.
+ * 이전 방식은 /auth 외의 공개 경로(/favicon.ico, /static/**)도 JWT 파싱까지 진행했습니다.
+ * ./gradlew jmh -PjmhArgs="RoutePolicyBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutePolicyBenchmark {
+
+    private final RoutePolicyMatcher matcher = FilterConfig.routePolicyMatcher();
+
+    @Param({"/auth/signin", "/admin/users/1", "/todos/1/comments", "/static/css/app.css"})
+    private String uri;
+
+    @Benchmark
+    public RoutePolicy matcher() {
+        return matcher.match("GET", uri);
+    }
+
+    @Benchmark
+    public RoutePolicy legacyPrefix() {
+        if (uri.startsWith("/auth")) {
+            return RoutePolicy.PUBLIC;
+        }
+        if (uri.startsWith("/admin")) {
+            return RoutePolicy.ADMIN;
+        }
+        return RoutePolicy.AUTHENTICATED;
+    }
+}
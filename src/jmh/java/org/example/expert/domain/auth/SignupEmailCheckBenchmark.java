@@ -0,0 +1,49 @@
+package org.example.expert.domain.auth;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입 시 새 이메일이 Bloom filter 에서 걸러지는 비용과 BCrypt 해싱 비용을 비교합니다.
+ * 중복 확인 쿼리(DB 왕복)는 여기서 재지 않으며, Bloom filter 가 false 를 돌려주면 그 왕복이 통째로 빠집니다.
+ * ./gradlew jmh -PjmhArgs="SignupEmailCheckBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignupEmailCheckBenchmark {
+
+    private BloomFilter bloomFilter;
+    private PasswordEncoder passwordEncoder;
+    private String[] newEmails;
+
+    @Setup
+    public void setUp() {
+        bloomFilter = new BloomFilter(1_000_000, 0.01);
+        for (int i = 0; i < 1_000_000; i++) {
+            bloomFilter.put("user" + i + "@gmail.com");
+        }
+        passwordEncoder = new PasswordEncoder();
+        newEmails = new String[10_000];
+        for (int i = 0; i < newEmails.length; i++) {
+            newEmails[i] = "new" + i + "@gmail.com";
+        }
+    }
+
+    @Benchmark
+    public boolean bloomFilterCheck() {
+        return bloomFilter.mightContain(newEmails[ThreadLocalRandom.current().nextInt(newEmails.length)]);
+    }
+
+    @Benchmark
+    public String bcryptEncode() {
+        return passwordEncoder.encode("PASSWORD1234");
+    }
+}
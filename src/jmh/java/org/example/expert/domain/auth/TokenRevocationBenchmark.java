@@ -0,0 +1,45 @@
+package org.example.expert.domain.auth;
+
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 가 요청마다 추가로 지불하는 비용(폐기되지 않은 토큰)을 측정합니다.
+ * ./gradlew jmh -PjmhArgs="TokenRevocationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenRevocationBenchmark {
+
+    private TokenRevocationService tokenRevocationService;
+    private BloomFilter bloomFilter;
+    private final Long issuedAt = System.currentTimeMillis();
+    private long userId = 1_000_001L;
+
+    @Setup
+    public void setUp() {
+        // 폐기되지 않은 유저는 Bloom filter 에서 걸러지므로 repository 를 호출하지 않습니다.
+        tokenRevocationService = new TokenRevocationService(null, 100_000);
+        bloomFilter = new BloomFilter(100_000, 0.01);
+        for (long i = 0; i < 100_000; i++) {
+            bloomFilter.put(i);
+        }
+    }
+
+    @Benchmark
+    public boolean isRevoked() {
+        return tokenRevocationService.isRevoked(userId, issuedAt);
+    }
+
+    @Benchmark
+    public boolean bloomFilterMiss() {
+        return bloomFilter.mightContain(userId);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.domain.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 같은 키(로그인 폭주) 또는 서로 다른 키로 동시에 호출할 때의 비용을 측정합니다.
+ * ./gradlew jmh -PjmhArgs="RateLimiterBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private RateLimiter rateLimiter;
+    private String[] emails;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(65536, 10, 5);
+        emails = new String[10_000];
+        for (int i = 0; i < emails.length; i++) {
+            emails[i] = "user" + i + "@gmail.com";
+        }
+    }
+
+    @Benchmark
+    public boolean sameKey() {
+        return rateLimiter.tryAcquire("victim@gmail.com");
+    }
+
+    @Benchmark
+    public boolean distinctKeys() {
+        return rateLimiter.tryAcquire(emails[ThreadLocalRandom.current().nextInt(emails.length)]);
+    }
+}
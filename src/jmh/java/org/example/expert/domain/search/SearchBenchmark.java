@@ -0,0 +1,79 @@
+package org.example.expert.domain.search;
+
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.search.service.SearchIndexService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * todo 수만큼 메모리 색인을 만든 뒤 두 단어 검색 한 페이지(10건)의 지연 시간을 잽니다. 목표는 100만 건에서 20ms 미만입니다.
+ * 단어는 VOCABULARY 개 중에서 Zipf 에 가깝게 뽑아서, 자주 나오는 단어(긴 posting list)도 검색되도록 합니다.
+ * ./gradlew jmh -PjmhArgs="SearchBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+    private static final String[] HANGUL = {"회의", "보고", "정리", "공유", "작성", "검토", "배포", "수정", "일정", "준비"};
+
+    @Param({"1000000"})
+    private int todos;
+
+    private SearchIndexService searchIndexService;
+
+    @Setup
+    public void setUp() throws IOException {
+        searchIndexService = new SearchIndexService("");
+        SplittableRandom random = new SplittableRandom(42);
+        for (long id = 1; id <= todos; id++) {
+            searchIndexService.index(SearchDocument.todo(id, sentence(random, 4), sentence(random, 20)));
+        }
+        searchIndexService.finishReindex();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        searchIndexService.close();
+    }
+
+    @Benchmark
+    public Object twoWords() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return searchIndexService.search(word(random.nextInt(VOCABULARY)) + " " + word(random.nextInt(VOCABULARY)), 1, 10);
+    }
+
+    @Benchmark
+    public Object frequentHangulWord() {
+        return searchIndexService.search(HANGUL[ThreadLocalRandom.current().nextInt(HANGUL.length)] + "를", 1, 10);
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            if (random.nextInt(4) == 0) {
+                sentence.append(HANGUL[random.nextInt(HANGUL.length)]).append("를");
+            } else {
+                // 작은 번호일수록 자주 나옵니다.
+                sentence.append(word((int) (Math.pow(random.nextDouble(), 3) * VOCABULARY)));
+            }
+        }
+        return sentence.toString();
+    }
+
+    private static String word(int n) {
+        return "w" + n;
+    }
+}
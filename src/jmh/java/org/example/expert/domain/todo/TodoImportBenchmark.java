@@ -0,0 +1,77 @@
+package org.example.expert.domain.todo;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.expert.domain.todo.dto.request.TodoImportRequest;
+import org.example.expert.domain.todo.repository.TodoBatchRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 100만 건(작성자 담당자 행 포함)을 가져올 때, JDBC 배치 크기에 따른 전체 소요 시간을 잽니다.
+ * batchSize 1 은 POST /todos 처럼 한 건씩 저장하는 경우에 해당합니다. (날씨 API 호출 비용은 빠져 있습니다)
+ * ./gradlew jmh -PjmhArgs="TodoImportBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TodoImportBenchmark {
+
+    private static final long OWNER_ID = 1L;
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TodoBatchRepository todoBatchRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:import;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(255), contents VARCHAR(255), " +
+                "weather VARCHAR(255), user_id BIGINT NOT NULL, comment_count INT NOT NULL, manager_count INT NOT NULL, " +
+                "view_count BIGINT NOT NULL, created_at TIMESTAMP, modified_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE managers (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NOT NULL, todo_id BIGINT NOT NULL)");
+        todoBatchRepository = new TodoBatchRepository(jdbcTemplate);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE managers");
+        jdbcTemplate.execute("TRUNCATE TABLE todos");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long importTodos() {
+        long created = 0;
+        List<TodoImportRequest> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new TodoImportRequest("title" + i, "contents" + i, "sunny", OWNER_ID));
+            if (batch.size() == batchSize) {
+                created += todoBatchRepository.saveAll(batch).size();
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            created += todoBatchRepository.saveAll(batch).size();
+        }
+        return created;
+    }
+}
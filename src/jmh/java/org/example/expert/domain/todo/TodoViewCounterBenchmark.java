@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.expert.domain.todo.repository.TodoViewCountBatchRepository;
+import org.example.expert.domain.todo.service.TodoViewCounter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 일정 하나에 조회가 몰릴 때, 조회마다 행을 UPDATE 하는 방식과 TodoViewCounter 에 모으는 방식을 비교합니다.
+ * ./gradlew jmh -PjmhArgs="TodoViewCounterBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TodoViewCounterBenchmark {
+
+    private static final long HOT_TODO_ID = 1L;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TodoViewCounter todoViewCounter;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:views;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(4);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, view_count BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO todos VALUES (?, 0)", HOT_TODO_ID);
+        todoViewCounter = new TodoViewCounter(new TodoViewCountBatchRepository(jdbcTemplate), 500);
+    }
+
+    @TearDown
+    public void tearDown() {
+        todoViewCounter.flush();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int rowUpdatePerView() {
+        return jdbcTemplate.update("UPDATE todos SET view_count = view_count + 1 WHERE id = ?", HOT_TODO_ID);
+    }
+
+    @Benchmark
+    public void stripedCounter() {
+        todoViewCounter.increment(HOT_TODO_ID);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ./gradlew jmh -PjmhArgs="UserRoleBenchmark -prof gc"
+ * gc.alloc.rate.norm 이 of* 벤치마크에서 0 B/op 이어야 합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserRoleBenchmark {
+
+    // 상수 폴딩을 막기 위해 필드로 둡니다.
+    private String upper = "USER";
+    private String lower = "admin";
+    private String mixed = "Admin";
+
+    @Benchmark
+    public UserRole ofUpperCase() {
+        return UserRole.of(upper);
+    }
+
+    @Benchmark
+    public UserRole ofLowerCase() {
+        return UserRole.of(lower);
+    }
+
+    @Benchmark
+    public UserRole ofMixedCase() {
+        return UserRole.of(mixed);
+    }
+
+    @Benchmark
+    public UserRole legacyStream() {
+        return Arrays.stream(UserRole.values())
+                .filter(r -> r.name().equalsIgnoreCase(mixed))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+    }
+}
@@ -1,39 +1,53 @@
 package org.example.expert.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
-import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Date;
-
-@Slf4j(topic = "AdminAspect")
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class AdminAspect {
-    @Pointcut("execution(* org.example.expert.domain.comment.controller.CommentAdminController..*(..))")
-    private void adminDeleteComment() {}
 
-    @Pointcut("execution(* org.example.expert.domain.user.controller.UserAdminController..*(..))")
-    private void adminChangeUserRole() {}
+    private final AdminAuditPublisher adminAuditPublisher;
+
+    // CommentAdminController, UserAdminController 등 모든 *AdminController
+    @Pointcut("execution(* org.example.expert.domain..controller.*AdminController.*(..))")
+    private void adminController() {}
 
-    @Around("adminDeleteComment() || adminChangeUserRole()")
-    public void execute(ProceedingJoinPoint joinPoint) throws Throwable {
-        // 접근 로그
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        StringBuffer requestURL = request.getRequestURL();
-        Long userId = (Long) request.getAttribute("userId");
-        log.info("[{}] Access User : {} , RequestURL : {}",new Date(), userId, requestURL);
+    @Around("adminController()")
+    public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
+        long requestedAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        boolean success = false;
 
         try {
-            joinPoint.proceed();
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
         } finally {
-            log.info("[{}] 사용자 접근 해제",new Date());
+            // 접근 로그 (실제 기록은 AdminAuditPublisher 의 별도 스레드에서 수행)
+            adminAuditPublisher.publish(createEvent(joinPoint, requestedAt, System.nanoTime() - start, success));
         }
     }
+
+    private AdminAuditEvent createEvent(ProceedingJoinPoint joinPoint, long requestedAt, long elapsedNanos, boolean success) {
+        String handler = joinPoint.getSignature().toShortString();
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletRequestAttributes)) {
+            return new AdminAuditEvent(null, null, null, handler, requestedAt, elapsedNanos, success);
+        }
+
+        HttpServletRequest request = servletRequestAttributes.getRequest();
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthUser.REQUEST_ATTRIBUTE);
+        Long userId = authUser == null ? null : authUser.getId();
+        return new AdminAuditEvent(userId, request.getMethod(), request.getRequestURI(), handler, requestedAt, elapsedNanos, success);
+    }
 }
@@ -0,0 +1,25 @@
+package org.example.expert.aop;
+
+import lombok.Getter;
+
+@Getter
+public class AdminAuditEvent {
+
+    private final Long userId;
+    private final String httpMethod;
+    private final String requestUri;
+    private final String handler;
+    private final long requestedAt;   // epoch millis
+    private final long elapsedNanos;
+    private final boolean success;
+
+    public AdminAuditEvent(Long userId, String httpMethod, String requestUri, String handler, long requestedAt, long elapsedNanos, boolean success) {
+        this.userId = userId;
+        this.httpMethod = httpMethod;
+        this.requestUri = requestUri;
+        this.handler = handler;
+        this.requestedAt = requestedAt;
+        this.elapsedNanos = elapsedNanos;
+        this.success = success;
+    }
+}
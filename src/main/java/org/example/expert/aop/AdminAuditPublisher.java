@@ -0,0 +1,183 @@
+package org.example.expert.aop;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.repository.AdminAuditLogBatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 API 감사 이벤트를 요청 스레드와 분리해서 admin_audit_logs 테이블에 기록한다.
+ * 요청 스레드는 고정 크기 큐에 넣기만 하고, 별도 스레드가 batchSize 만큼 모이거나 flushInterval 이 지나면 한 번의 배치 INSERT 로 저장한다.
+ * 큐가 가득 차면 offerTimeout 만큼만 기다린 뒤(기본 0, 즉 대기하지 않음) 이벤트를 버리고 개수를 센다.
+ * 저장에 실패한 배치는 버리지 않고 retryBackoff 부터 두 배씩 늘려가며 maxRetries 번 다시 시도하고, 그래도 실패하면 따로 센다.
+ */
+@Slf4j(topic = "AdminAudit")
+@Component
+public class AdminAuditPublisher {
+
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 10_000;
+
+    private final AdminAuditLogBatchRepository adminAuditLogBatchRepository;
+    private final BlockingQueue<AdminAuditEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    // 큐가 가득 차서 버린 이벤트 수
+    private final AtomicLong droppedCount = new AtomicLong();
+    // 재시도 끝에 저장하지 못한 이벤트 수
+    private final AtomicLong failedCount = new AtomicLong();
+
+    // false 면 기록 스레드를 띄우지 않고 큐에만 쌓습니다.
+    @Value("${audit.writer.enabled:true}")
+    private boolean writerEnabled = true;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AdminAuditPublisher(
+            AdminAuditLogBatchRepository adminAuditLogBatchRepository,
+            @Value("${audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${audit.batch-size:100}") int batchSize,
+            @Value("${audit.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${audit.offer-timeout-ms:0}") long offerTimeoutMillis,
+            @Value("${audit.max-retries:5}") int maxRetries,
+            @Value("${audit.retry-backoff-ms:200}") long retryBackoffMillis
+    ) {
+        this.adminAuditLogBatchRepository = adminAuditLogBatchRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!writerEnabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "admin-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        worker.join(flushIntervalMillis);
+    }
+
+    // 요청 스레드에서 호출되므로 offerTimeout 이상 블로킹하지 않습니다.
+    public void publish(AdminAuditEvent event) {
+        boolean offered;
+        try {
+            offered = offerTimeoutMillis > 0
+                    ? queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS)
+                    : queue.offer(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+
+        if (!offered) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private void run() {
+        List<AdminAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AdminAuditEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                // 종료 중이면 재시도 중이던 배치와 남은 이벤트를 한 번 더 저장해 봅니다.
+                queue.drainTo(batch);
+                writeOrCount(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 이벤트 이후 batchSize 가 차거나 flushInterval 이 지날 때까지 모읍니다.
+    private void fillBatch(List<AdminAuditEvent> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            AdminAuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void writeWithRetry(List<AdminAuditEvent> batch) throws InterruptedException {
+        long backoff = retryBackoffMillis;
+        for (int attempt = 0; attempt < maxRetries; attempt++) {
+            try {
+                write(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("관리자 감사 로그 기록에 실패해 {}ms 후 다시 시도합니다. ({}건)", backoff, batch.size(), e);
+            }
+            Thread.sleep(backoff);
+            backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF_MILLIS);
+        }
+        writeOrCount(batch);
+    }
+
+    private void writeOrCount(List<AdminAuditEvent> batch) {
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            failedCount.addAndGet(batch.size());
+            log.error("관리자 감사 로그 기록에 끝내 실패했습니다. ({}건)", batch.size(), e);
+        }
+    }
+
+    private void write(List<AdminAuditEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        adminAuditLogBatchRepository.saveAll(batch);
+        log.debug("관리자 감사 로그 {}건 저장", batch.size());
+    }
+}
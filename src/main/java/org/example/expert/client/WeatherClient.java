@@ -18,11 +18,26 @@ public class WeatherClient {
 
     private final RestTemplate restTemplate;
 
+    // 날씨 데이터는 날짜별로 하나이므로, 하루에 한 번만 가져오고 그날은 같은 값을 씁니다.
+    private volatile CachedWeather cachedWeather;
+
     public WeatherClient(RestTemplateBuilder builder) {
         this.restTemplate = builder.build();
     }
 
     public String getTodayWeather() {
+        String today = getCurrentDate();
+        CachedWeather cached = cachedWeather;
+        if (cached != null && cached.date.equals(today)) {
+            return cached.weather;
+        }
+
+        String weather = fetchWeather(today);
+        cachedWeather = new CachedWeather(today, weather);
+        return weather;
+    }
+
+    private String fetchWeather(String today) {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -35,9 +50,6 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-
-        String today = getCurrentDate();
-
         for (WeatherDto weatherDto : weatherArray) {
             if (today.equals(weatherDto.getDate())) {
                 return weatherDto.getWeather();
@@ -60,4 +72,14 @@ public class WeatherClient {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
         return LocalDate.now().format(formatter);
     }
+
+    private static class CachedWeather {
+        private final String date;
+        private final String weather;
+
+        private CachedWeather(String date, String weather) {
+            this.date = date;
+            this.weather = weather;
+        }
+    }
 }
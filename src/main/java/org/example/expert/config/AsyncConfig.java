@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j(topic = "AsyncConfig")
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    public static final String SEARCH_INDEX_EXECUTOR = "searchIndexExecutor";
+    public static final String COMMENT_STREAM_EXECUTOR = "commentStreamExecutor";
+
+    // 같은 문서의 변경 순서가 뒤바뀌지 않도록 스레드 하나로 색인합니다. 큐가 차면 버리고, 전체 재색인으로 맞춥니다.
+    @Bean(name = SEARCH_INDEX_EXECUTOR)
+    public ThreadPoolTaskExecutor searchIndexExecutor(@Value("${search.index.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setRejectedExecutionHandler((task, pool) -> log.warn("검색 색인 큐가 가득 차 변경을 버립니다. 재색인이 필요합니다."));
+        return executor;
+    }
+
+    // SSE 전송용. 구독자당 전송 작업은 최대 하나만 큐에 있으므로 큐 길이는 구독자 수를 넘지 않습니다.
+    @Bean(name = COMMENT_STREAM_EXECUTOR)
+    public ThreadPoolTaskExecutor commentStreamExecutor(@Value("${comment.stream.sender-threads:4}") int senderThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(senderThreads);
+        executor.setMaxPoolSize(senderThreads);
+        executor.setThreadNamePrefix("comment-stream-");
+        return executor;
+    }
+}
@@ -1,22 +1,59 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.service.ApiKeyService;
+import org.example.expert.domain.auth.service.TokenEpochService;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenEpochService tokenEpochService;
+    private final SecurityEventLogger securityEventLogger;
+    private final ApiKeyService apiKeyService;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, tokenRevocationService, tokenEpochService, securityEventLogger, routePolicyMatcher(), apiKeyService));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
     }
+
+    // 경로별 인증 정책. 목록에 없는 경로는 로그인이 필요합니다.
+    public static RoutePolicyMatcher routePolicyMatcher() {
+        return RoutePolicyMatcher.builder(RoutePolicy.AUTHENTICATED)
+                .route("/auth/**", RoutePolicy.PUBLIC)
+                .route("/error", RoutePolicy.PUBLIC)
+                .route("/favicon.ico", RoutePolicy.PUBLIC)
+                .route("/static/**", RoutePolicy.PUBLIC)
+                .route("/admin/**", RoutePolicy.ADMIN)
+                .build();
+    }
+
+    // 요청당 SQL 실행 횟수를 집계합니다. (query-count.mode : OFF | WARN | FAIL)
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            @Value("${query-count.mode:OFF}") String mode,
+            @Value("${query-count.max-per-request:10}") int maxQueriesPerRequest
+    ) {
+        QueryCountMode queryCountMode = QueryCountMode.of(mode);
+
+        FilterRegistrationBean<QueryCountFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new QueryCountFilter(queryCountMode, maxQueriesPerRequest));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registrationBean.setEnabled(queryCountMode != QueryCountMode.OFF);
+
+        return registrationBean;
+    }
 }
@@ -0,0 +1,20 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JwtFailureType {
+    MISSING_TOKEN("JWT 토큰이 없습니다."),
+    INVALID_SIGNATURE("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다."),
+    EXPIRED("Expired JWT token, 만료된 JWT token 입니다."),
+    UNSUPPORTED("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다."),
+    INVALID_TOKEN("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다."),
+    REVOKED("폐기된 JWT 토큰입니다."),
+    STALE_VERSION("권한 정보가 변경된 JWT 토큰입니다."),
+    FORBIDDEN("관리자 권한이 없습니다."),
+    INVALID_API_KEY("유효하지 않은 API 키입니다.");
+
+    private final String logMessage;
+}
@@ -4,21 +4,32 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.servlet.FilterConfig;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.service.ApiKeyService;
+import org.example.expert.domain.auth.service.TokenEpochService;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.web.util.UrlPathHelper;
 
 import java.io.IOException;
 
-@Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    public static final String API_KEY_HEADER = "X-API-Key";
+
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenEpochService tokenEpochService;
+    private final SecurityEventLogger securityEventLogger;
+    private final RoutePolicyMatcher routePolicyMatcher;
+    private final ApiKeyService apiKeyService;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -30,61 +41,104 @@ public class JwtFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String url = httpRequest.getRequestURI();
+        // getRequestURI 는 디코딩 전이고 ";" 경로 파라미터가 남아 있어서, 핸들러 매핑과 같게 디코딩하고 파라미터를 뺀 경로로 정책을 찾습니다.
+        // ("/admin;x/users/1", "/%61dmin/users/1" 도 "/admin/users/1" 핸들러로 가므로 ADMIN 이어야 합니다.)
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(httpRequest);
+        RoutePolicy routePolicy = routePolicyMatcher.match(httpRequest.getMethod(), path);
 
-        if (url.startsWith("/auth")) {
+        if (routePolicy == RoutePolicy.PUBLIC) {
             chain.doFilter(request, response);
             return;
         }
 
+        // 배치 작업 같은 기계 클라이언트는 JWT 대신 API 키로 인증할 수 있습니다.
+        String apiKey = httpRequest.getHeader(API_KEY_HEADER);
+        if (apiKey != null) {
+            AuthUser authUser = apiKeyService.authenticate(apiKey);
+            if (authUser == null) {
+                securityEventLogger.record(JwtFailureType.INVALID_API_KEY, httpRequest, null);
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 API 키입니다.");
+                return;
+            }
+            authorize(routePolicy, authUser, httpRequest, httpResponse, chain);
+            return;
+        }
+
         String bearerJwt = httpRequest.getHeader("Authorization");
 
         if (bearerJwt == null) {
             // 토큰이 없는 경우 400을 반환합니다.
+            securityEventLogger.record(JwtFailureType.MISSING_TOKEN, httpRequest, null);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "JWT 토큰이 필요합니다.");
             return;
         }
 
-        String jwt = jwtUtil.substringToken(bearerJwt);
-
+        // 토큰 검증에서 난 예외만 잡습니다. 이후 컨트롤러에서 난 예외는 토큰 오류로 기록하지 않고 그대로 전파합니다.
+        AuthUser authUser;
         try {
+            String jwt = jwtUtil.substringToken(bearerJwt);
+
             // JWT 유효성 검사와 claims 추출
             Claims claims = jwtUtil.extractClaims(jwt);
             if (claims == null) {
+                securityEventLogger.record(JwtFailureType.INVALID_TOKEN, httpRequest, null);
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
-
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            long userId = Long.parseLong(claims.getSubject());
+            if (tokenRevocationService.isRevoked(userId, JwtUtil.issuedAtMillis(claims))) {
+                securityEventLogger.record(JwtFailureType.REVOKED, httpRequest, null);
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
+                return;
+            }
 
-            if (url.startsWith("/admin")) {
-                // 관리자 권한이 없는 경우 403을 반환합니다.
-                if (!UserRole.ADMIN.equals(userRole)) {
-                    httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
-                    return;
-                }
-                chain.doFilter(request, response);
+            // 비밀번호, 권한 변경 이전에 발급된 토큰은 거부합니다.
+            Integer tokenVersion = claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Integer.class);
+            if (!tokenEpochService.isCurrent(userId, tokenVersion == null ? 0 : tokenVersion)) {
+                securityEventLogger.record(JwtFailureType.STALE_VERSION, httpRequest, null);
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "권한 정보가 변경된 JWT 토큰입니다. 다시 로그인해주세요.");
                 return;
             }
 
-            chain.doFilter(request, response);
+            UserRole userRole = UserRole.of(claims.get("userRole", String.class));
+
+            authUser = new AuthUser(
+                    userId,
+                    claims.get("email", String.class),
+                    userRole
+            );
         } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
+            securityEventLogger.record(JwtFailureType.INVALID_SIGNATURE, httpRequest, e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
+            return;
         } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
+            securityEventLogger.record(JwtFailureType.EXPIRED, httpRequest, e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
+            return;
         } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
+            securityEventLogger.record(JwtFailureType.UNSUPPORTED, httpRequest, e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
+            return;
         } catch (Exception e) {
-            log.error("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
+            securityEventLogger.record(JwtFailureType.INVALID_TOKEN, httpRequest, e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
+            return;
         }
+        authorize(routePolicy, authUser, httpRequest, httpResponse, chain);
+    }
+
+    private void authorize(RoutePolicy routePolicy, AuthUser authUser, HttpServletRequest httpRequest, HttpServletResponse httpResponse, FilterChain chain) throws IOException, ServletException {
+        httpRequest.setAttribute(AuthUser.REQUEST_ATTRIBUTE, authUser);
+
+        // 관리자 권한이 없는 경우 403을 반환합니다.
+        if (routePolicy == RoutePolicy.ADMIN && !UserRole.ADMIN.equals(authUser.getUserRole())) {
+            securityEventLogger.record(JwtFailureType.FORBIDDEN, httpRequest, null);
+            httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
+            return;
+        }
+
+        chain.doFilter(httpRequest, httpResponse);
     }
 
     @Override
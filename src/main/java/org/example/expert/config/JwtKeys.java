@@ -0,0 +1,88 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * kid → 서명 키. 만든 뒤에는 바뀌지 않으며, 키를 교체할 때는 JwtUtil 이 새 JwtKeys 로 통째로 바꿉니다.
+ * kid 헤더가 없는 토큰(키 교체 기능 이전에 발급)은 jwt.secret.key 로 검증합니다. 키 파일에 "legacy=false" 가 있으면 jwt.secret.key 를 빼고,
+ * kid 가 없는 토큰도 거부합니다. (전환이 끝났거나 기존 키가 유출되어 폐기할 때)
+ */
+final class JwtKeys {
+
+    static final String ACTIVE_PROPERTY = "active";
+    static final String LEGACY_PROPERTY = "legacy";
+
+    private final Map<String, Key> keys;
+    private final String activeKid;
+    private final Key activeKey;
+    private final Key legacyKey; // null 이면 kid 가 없는 토큰을 거부합니다.
+
+    private JwtKeys(Map<String, Key> keys, String activeKid, Key legacyKey) {
+        this.keys = Map.copyOf(keys);
+        this.activeKid = activeKid;
+        this.activeKey = this.keys.get(activeKid);
+        this.legacyKey = legacyKey;
+        if (activeKey == null) {
+            throw new IllegalStateException("active kid 에 해당하는 키가 없습니다. : " + activeKid);
+        }
+    }
+
+    static JwtKeys of(String kid, String secret) {
+        Key key = hmacKey(secret);
+        return new JwtKeys(Map.of(kid, key), kid, key);
+    }
+
+    // "active=<kid>" 한 줄과 "<kid>=<Base64 secret>" 줄들. 기존 jwt.secret.key 는 "legacy=false" 가 없으면 파일에 없어도 계속 검증에 사용합니다.
+    static JwtKeys load(Properties properties, String legacyKid, String legacySecret) {
+        boolean keepLegacy = !"false".equalsIgnoreCase(properties.getProperty(LEGACY_PROPERTY, "true").trim());
+        Key legacyKey = keepLegacy ? hmacKey(legacySecret) : null;
+        Map<String, Key> keys = new HashMap<>();
+        if (keepLegacy) {
+            keys.put(legacyKid, legacyKey);
+        }
+        for (String kid : properties.stringPropertyNames()) {
+            if (!ACTIVE_PROPERTY.equals(kid) && !LEGACY_PROPERTY.equals(kid)) {
+                keys.put(kid, hmacKey(properties.getProperty(kid).trim()));
+            }
+        }
+        String activeKid = properties.getProperty(ACTIVE_PROPERTY, legacyKid).trim();
+        return new JwtKeys(keys, activeKid, legacyKey);
+    }
+
+    Key get(String kid) {
+        if (kid == null) {
+            if (legacyKey == null) {
+                throw new SignatureException("kid 가 없는 토큰은 더 이상 허용하지 않습니다.");
+            }
+            return legacyKey;
+        }
+        Key key = keys.get(kid);
+        if (key == null) {
+            throw new SignatureException("알 수 없는 kid 입니다. : " + kid);
+        }
+        return key;
+    }
+
+    String activeKid() {
+        return activeKid;
+    }
+
+    Key activeKey() {
+        return activeKey;
+    }
+
+    int size() {
+        return keys.size();
+    }
+
+    private static Key hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+    }
+}
@@ -1,50 +1,122 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
+import java.util.Properties;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final String DEFAULT_KID = "default";
+    public static final long TOKEN_TIME = 15 * 60 * 1000L; // 15분 (만료 후에는 /auth/refresh 로 재발급)
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+    // iat 는 초 단위라서, 로그아웃 직후 같은 초에 다시 발급한 토큰과 구분하도록 밀리초 발급 시각을 따로 담습니다.
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
-    private Key key;
+    @Value("${jwt.secret.kid:" + DEFAULT_KID + "}")
+    private String secretKid;
+    // 키 교체용 파일 (JwtKeys.load 형식). 비어 있으면 jwt.secret.key 하나만 사용합니다.
+    @Value("${jwt.keys.file:}")
+    private String keysFile;
+    private long keysFileModifiedAt;
+    private volatile JwtKeys keys;
+    private JwtParser parser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
-        byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        keys = JwtKeys.of(legacyKid(), secretKey);
+        if (StringUtils.hasText(keysFile)) {
+            loadKeysFile();
+        }
+
+        // 파서는 한 번만 만들고, 서명 키는 요청마다 kid 로 현재 키 목록에서 찾습니다.
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keys.get(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    // 파일이 바뀌었을 때만 다시 읽고, 읽지 못하면 기존 키를 그대로 사용합니다.
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval-ms:30000}")
+    public void reloadKeys() {
+        if (!StringUtils.hasText(keysFile)) {
+            return;
+        }
+        try {
+            loadKeysFile();
+        } catch (RuntimeException e) {
+            log.warn("JWT 서명 키 파일을 적용하지 못해 기존 키를 유지합니다. : {}", e.getMessage());
+        }
+    }
+
+    private synchronized void loadKeysFile() {
+        Path path = Path.of(keysFile);
+        try {
+            long modifiedAt = Files.getLastModifiedTime(path).toMillis();
+            if (modifiedAt == keysFileModifiedAt) {
+                return;
+            }
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            }
+            JwtKeys loaded = JwtKeys.load(properties, legacyKid(), secretKey);
+            keys = loaded;
+            keysFileModifiedAt = modifiedAt;
+            log.info("JWT 서명 키 {}개 적용 (active kid : {})", loaded.size(), loaded.activeKid());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String legacyKid() {
+        return StringUtils.hasText(secretKid) ? secretKid : DEFAULT_KID;
     }
 
-    public String createToken(Long userId, String email, UserRole userRole) {
+    public String createToken(Long userId, String email, UserRole userRole, int tokenVersion) {
         Date date = new Date();
+        JwtKeys signingKeys = keys;
 
         return BEARER_PREFIX +
                 Jwts.builder()
+                        .setHeaderParam(JwsHeader.KEY_ID, signingKeys.activeKid())
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
+                        .claim(TOKEN_VERSION_CLAIM, tokenVersion)
+                        .claim(ISSUED_AT_MILLIS_CLAIM, date.getTime())
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
+                        .signWith(signingKeys.activeKey(), signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
@@ -56,10 +128,15 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // iatMs 가 없는 이전 토큰은 iat(초)의 시작 시각으로 봅니다.
+    public static Long issuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        return claims.getIssuedAt() == null ? null : claims.getIssuedAt().getTime();
     }
 }
@@ -0,0 +1,30 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+@Slf4j(topic = "QueryCountFilter")
+@RequiredArgsConstructor
+public class QueryCountFilter implements Filter {
+
+    private final QueryCountMode mode;
+    private final int maxQueriesPerRequest;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        QueryCounter.start(mode, maxQueriesPerRequest);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int count = QueryCounter.stop();
+            if (count > maxQueriesPerRequest) {
+                log.warn("[{}] {} : SQL {}회 실행 (기준 {}회)",
+                        ((HttpServletRequest) request).getMethod(), ((HttpServletRequest) request).getRequestURI(), count, maxQueriesPerRequest);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.expert.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment(sql);
+        return sql;
+    }
+}
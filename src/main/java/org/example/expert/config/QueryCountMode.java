@@ -0,0 +1,14 @@
+package org.example.expert.config;
+
+public enum QueryCountMode {
+    OFF, WARN, FAIL;
+
+    public static QueryCountMode of(String mode) {
+        for (QueryCountMode value : values()) {
+            if (value.name().equalsIgnoreCase(mode)) {
+                return value;
+            }
+        }
+        return OFF;
+    }
+}
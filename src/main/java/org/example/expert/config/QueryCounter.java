@@ -0,0 +1,68 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+
+/**
+ * 현재 스레드(요청 또는 테스트)에서 실행된 SQL 문 수를 센다.
+ * start ~ stop 사이에서만 집계하며, 기준을 넘으면 mode 에 따라 경고 로그를 남기거나 예외를 던진다.
+ */
+@Slf4j(topic = "QueryCounter")
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void start(QueryCountMode mode, int maxQueries) {
+        if (mode == QueryCountMode.OFF) {
+            SCOPE.remove();
+            return;
+        }
+        SCOPE.set(new Scope(mode, maxQueries));
+    }
+
+    public static int stop() {
+        Scope scope = SCOPE.get();
+        SCOPE.remove();
+        return scope == null ? 0 : scope.count;
+    }
+
+    public static int count() {
+        Scope scope = SCOPE.get();
+        return scope == null ? 0 : scope.count;
+    }
+
+    static void increment(String sql) {
+        Scope scope = SCOPE.get();
+        if (scope == null) {
+            return;
+        }
+
+        scope.count++;
+        if (scope.count <= scope.maxQueries) {
+            return;
+        }
+
+        if (scope.mode == QueryCountMode.FAIL) {
+            throw new ServerException("SQL 실행 횟수가 기준(" + scope.maxQueries + ")을 초과했습니다. : " + sql);
+        }
+        if (!scope.warned) {
+            scope.warned = true;
+            log.warn("SQL 실행 횟수가 기준({})을 초과했습니다. : {}", scope.maxQueries, sql);
+        }
+    }
+
+    private static final class Scope {
+        private final QueryCountMode mode;
+        private final int maxQueries;
+        private int count;
+        private boolean warned;
+
+        private Scope(QueryCountMode mode, int maxQueries) {
+            this.mode = mode;
+            this.maxQueries = maxQueries;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.config;
+
+public enum RoutePolicy {
+    // JWT 를 확인하지 않습니다.
+    PUBLIC,
+    AUTHENTICATED,
+    ADMIN
+}
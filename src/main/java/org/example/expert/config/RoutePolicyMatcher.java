@@ -0,0 +1,138 @@
+package org.example.expert.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 경로 패턴 → RoutePolicy 를 세그먼트 단위 trie 로 미리 만들어 두고, 요청마다 경로를 한 번 훑어 정책을 찾습니다.
+ * 패턴 세그먼트는 문자열 그대로, "*"(세그먼트 하나), "**"(이후 전부, 마지막에만) 를 쓸 수 있고,
+ * 겹치면 문자열 > "*" > "**" 순으로 구체적인 쪽이 이깁니다. 맞는 패턴이 없으면 defaultPolicy 입니다.
+ * 경로는 디코딩된 값을 받아야 하고, 세그먼트의 ";" 이후(경로 파라미터)는 무시합니다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 그대로 사용합니다.
+ */
+public class RoutePolicyMatcher {
+
+    private static final String ANY_METHOD = "*";
+
+    private final Node root;
+    private final RoutePolicy defaultPolicy;
+
+    private RoutePolicyMatcher(Node root, RoutePolicy defaultPolicy) {
+        this.root = root;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    public static Builder builder(RoutePolicy defaultPolicy) {
+        return new Builder(defaultPolicy);
+    }
+
+    public RoutePolicy match(String method, String path) {
+        RoutePolicy policy = match(root, method, path, 0);
+        return policy == null ? defaultPolicy : policy;
+    }
+
+    private static RoutePolicy match(Node node, String method, String path, int from) {
+        // 연속된 '/' 는 건너뜁니다.
+        int start = from;
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start == path.length()) {
+            RoutePolicy policy = node.policy(method);
+            return policy != null ? policy : node.tail(method);
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        int segmentEnd = path.indexOf(';', start);
+        if (segmentEnd < 0 || segmentEnd > end) {
+            segmentEnd = end;
+        }
+        Node child = node.children.get(path.substring(start, segmentEnd));
+        if (child != null) {
+            RoutePolicy policy = match(child, method, path, end);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        if (node.wildcard != null) {
+            RoutePolicy policy = match(node.wildcard, method, path, end);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        return node.tail(method);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node wildcard;
+        // 메서드 → 정책 ("*" 는 모든 메서드)
+        private final Map<String, RoutePolicy> policies = new HashMap<>(4);
+        private final Map<String, RoutePolicy> tailPolicies = new HashMap<>(4);
+
+        private RoutePolicy policy(String method) {
+            return find(policies, method);
+        }
+
+        private RoutePolicy tail(String method) {
+            return find(tailPolicies, method);
+        }
+
+        private static RoutePolicy find(Map<String, RoutePolicy> policies, String method) {
+            if (policies.isEmpty()) {
+                return null;
+            }
+            RoutePolicy policy = policies.get(method);
+            return policy != null ? policy : policies.get(ANY_METHOD);
+        }
+    }
+
+    public static class Builder {
+        private final Node root = new Node();
+        private final RoutePolicy defaultPolicy;
+
+        private Builder(RoutePolicy defaultPolicy) {
+            this.defaultPolicy = defaultPolicy;
+        }
+
+        public Builder route(String pattern, RoutePolicy policy) {
+            return route(ANY_METHOD, pattern, policy);
+        }
+
+        public Builder route(String method, String pattern, RoutePolicy policy) {
+            Node node = root;
+            String[] segments = pattern.split("/");
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (segment.equals("**")) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("\"**\" 는 패턴의 마지막에만 쓸 수 있습니다. : " + pattern);
+                    }
+                    node.tailPolicies.put(method, policy);
+                    return this;
+                }
+                if (segment.equals("*")) {
+                    if (node.wildcard == null) {
+                        node.wildcard = new Node();
+                    }
+                    node = node.wildcard;
+                } else {
+                    node = node.children.computeIfAbsent(segment, s -> new Node());
+                }
+            }
+            node.policies.put(method, policy);
+            return this;
+        }
+
+        public RoutePolicyMatcher build() {
+            return new RoutePolicyMatcher(root, defaultPolicy);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.expert.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// scheduling.enabled=false 면 @Scheduled 작업(키 갱신, 조회수 flush 등)을 모두 끕니다.
+@Configuration
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,92 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JwtFilter 인증 실패 로그.
+ * 실패 유형마다 건수만 세고, 로그는 interval 마다 유형별 예시 한 건과 집계 한 줄만 남깁니다.
+ * 잘못된 토큰이 아무리 많이 들어와도 로그 양은 (유형 수 + 1) 줄 / interval 을 넘지 않습니다.
+ */
+@Slf4j(topic = "SecurityEventLogger")
+@Component
+public class SecurityEventLogger {
+
+    private static final JwtFailureType[] TYPES = JwtFailureType.values();
+
+    private final long intervalMillis;
+    private final Counter[] counters = new Counter[TYPES.length];
+
+    public SecurityEventLogger(@Value("${security.log.interval-ms:60000}") long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counter();
+        }
+    }
+
+    public void record(JwtFailureType type, HttpServletRequest request, Exception e) {
+        record(type, request, e, System.currentTimeMillis());
+    }
+
+    // 예시 로그를 남겼으면 true
+    boolean record(JwtFailureType type, HttpServletRequest request, Exception e, long now) {
+        Counter counter = counters[type.ordinal()];
+        counter.total.increment();
+
+        long nextExemplarAt = counter.nextExemplarAt.get();
+        if (now < nextExemplarAt || !counter.nextExemplarAt.compareAndSet(nextExemplarAt, now + intervalMillis)) {
+            counter.suppressed.increment();
+            return false;
+        }
+        long suppressed = counter.suppressed.sumThenReset();
+        if (e == null) {
+            log.warn("{} uri={}, ip={} (직전 예시 이후 {}건 생략)", type.getLogMessage(), request.getRequestURI(), request.getRemoteAddr(), suppressed);
+        } else {
+            log.warn("{} uri={}, ip={} (직전 예시 이후 {}건 생략)", type.getLogMessage(), request.getRequestURI(), request.getRemoteAddr(), suppressed, e);
+        }
+        return true;
+    }
+
+    public Map<JwtFailureType, Long> getTotals() {
+        Map<JwtFailureType, Long> totals = new EnumMap<>(JwtFailureType.class);
+        for (JwtFailureType type : TYPES) {
+            totals.put(type, counters[type.ordinal()].total.sum());
+        }
+        return totals;
+    }
+
+    // 지난 집계 이후 늘어난 건수를 한 줄로 남깁니다.
+    @Scheduled(fixedDelayString = "${security.log.interval-ms:60000}")
+    public void logSummary() {
+        StringBuilder summary = null;
+        for (JwtFailureType type : TYPES) {
+            Counter counter = counters[type.ordinal()];
+            long total = counter.total.sum();
+            long delta = total - counter.reported;
+            counter.reported = total;
+            if (delta > 0) {
+                summary = summary == null ? new StringBuilder() : summary.append(", ");
+                summary.append(type.name()).append('=').append(delta);
+            }
+        }
+        if (summary != null) {
+            log.warn("JWT 인증 실패 집계 ({}ms) : {}", intervalMillis, summary);
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicLong nextExemplarAt = new AtomicLong();
+        // logSummary 스케줄러 스레드에서만 읽고 씁니다.
+        private long reported;
+    }
+}
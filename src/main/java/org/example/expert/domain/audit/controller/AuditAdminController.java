@@ -0,0 +1,29 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogPageResponse;
+import org.example.expert.domain.audit.service.AdminAuditLogService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+public class AuditAdminController {
+
+    private final AdminAuditLogService adminAuditLogService;
+
+    @GetMapping("/admin/audits")
+    public ResponseEntity<AdminAuditLogPageResponse> getAuditLogs(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(adminAuditLogService.getAuditLogs(userId, cursorAt, cursorId, size));
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class AdminAuditLogPageResponse {
+
+    private final List<AdminAuditLogResponse> logs;
+    // 다음 페이지 조회 시 cursorAt, cursorId 로 전달 (마지막 페이지면 null)
+    private final LocalDateTime nextCursorAt;
+    private final Long nextCursorId;
+
+    public AdminAuditLogPageResponse(List<AdminAuditLogResponse> logs, LocalDateTime nextCursorAt, Long nextCursorId) {
+        this.logs = logs;
+        this.nextCursorAt = nextCursorAt;
+        this.nextCursorId = nextCursorId;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminAuditLogResponse {
+
+    private final Long id;
+    private final Long userId;
+    private final String httpMethod;
+    private final String requestUri;
+    private final String handler;
+    private final LocalDateTime requestedAt;
+    private final long elapsedMicros;
+    private final boolean success;
+
+    public AdminAuditLogResponse(Long id, Long userId, String httpMethod, String requestUri, String handler, LocalDateTime requestedAt, long elapsedMicros, boolean success) {
+        this.id = id;
+        this.userId = userId;
+        this.httpMethod = httpMethod;
+        this.requestUri = requestUri;
+        this.handler = handler;
+        this.requestedAt = requestedAt;
+        this.elapsedMicros = elapsedMicros;
+        this.success = success;
+    }
+}
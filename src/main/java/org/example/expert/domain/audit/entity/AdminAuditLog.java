@@ -0,0 +1,29 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "admin_audit_logs", indexes = {
+        @Index(name = "idx_admin_audit_logs_requested_at", columnList = "requested_at, id"),
+        @Index(name = "idx_admin_audit_logs_user_id_requested_at", columnList = "user_id, requested_at, id")
+})
+public class AdminAuditLog {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "user_id")
+    private Long userId;
+    private String httpMethod;
+    private String requestUri;
+    private String handler;
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+    private long elapsedMicros;
+    private boolean success;
+}
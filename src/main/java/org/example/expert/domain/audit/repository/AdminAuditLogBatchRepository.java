@@ -0,0 +1,39 @@
+package org.example.expert.domain.audit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.AdminAuditEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// IDENTITY 전략에서는 JPA 로 배치 INSERT 가 되지 않으므로 JDBC 배치로 저장합니다.
+@Repository
+@RequiredArgsConstructor
+public class AdminAuditLogBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO admin_audit_logs " +
+            "(user_id, http_method, request_uri, handler, requested_at, elapsed_micros, success) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<AdminAuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            if (event.getUserId() == null) {
+                ps.setNull(1, Types.BIGINT);
+            } else {
+                ps.setLong(1, event.getUserId());
+            }
+            ps.setString(2, event.getHttpMethod());
+            ps.setString(3, event.getRequestUri());
+            ps.setString(4, event.getHandler());
+            ps.setTimestamp(5, new Timestamp(event.getRequestedAt()));
+            ps.setLong(6, TimeUnit.NANOSECONDS.toMicros(event.getElapsedNanos()));
+            ps.setBoolean(7, event.isSuccess());
+        });
+    }
+}
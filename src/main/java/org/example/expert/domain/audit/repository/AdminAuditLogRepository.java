@@ -0,0 +1,24 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AdminAuditLogRepository extends JpaRepository<AdminAuditLog, Long> {
+
+    @Query("SELECT a FROM AdminAuditLog a " +
+            "WHERE a.requestedAt < :cursorAt OR (a.requestedAt = :cursorAt AND a.id < :cursorId) " +
+            "ORDER BY a.requestedAt DESC, a.id DESC")
+    List<AdminAuditLog> findPage(@Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query("SELECT a FROM AdminAuditLog a " +
+            "WHERE a.userId = :userId " +
+            "AND (a.requestedAt < :cursorAt OR (a.requestedAt = :cursorAt AND a.id < :cursorId)) " +
+            "ORDER BY a.requestedAt DESC, a.id DESC")
+    List<AdminAuditLog> findPageByUserId(@Param("userId") Long userId, @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId, Pageable pageable);
+}
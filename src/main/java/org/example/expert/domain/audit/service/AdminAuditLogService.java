@@ -0,0 +1,60 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogPageResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogResponse;
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminAuditLogService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime MAX_CURSOR_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final AdminAuditLogRepository adminAuditLogRepository;
+
+    public AdminAuditLogPageResponse getAuditLogs(Long userId, LocalDateTime cursorAt, Long cursorId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        LocalDateTime at = cursorAt == null ? MAX_CURSOR_AT : cursorAt;
+        Long id = cursorId == null ? Long.MAX_VALUE : cursorId;
+        PageRequest limit = PageRequest.of(0, size);
+
+        List<AdminAuditLog> auditLogs = userId == null
+                ? adminAuditLogRepository.findPage(at, id, limit)
+                : adminAuditLogRepository.findPageByUserId(userId, at, id, limit);
+
+        List<AdminAuditLogResponse> dtoList = new ArrayList<>();
+        for (AdminAuditLog auditLog : auditLogs) {
+            dtoList.add(new AdminAuditLogResponse(
+                    auditLog.getId(),
+                    auditLog.getUserId(),
+                    auditLog.getHttpMethod(),
+                    auditLog.getRequestUri(),
+                    auditLog.getHandler(),
+                    auditLog.getRequestedAt(),
+                    auditLog.getElapsedMicros(),
+                    auditLog.isSuccess()
+            ));
+        }
+
+        if (auditLogs.size() < size) {
+            return new AdminAuditLogPageResponse(dtoList, null, null);
+        }
+        AdminAuditLog last = auditLogs.get(auditLogs.size() - 1);
+        return new AdminAuditLogPageResponse(dtoList, last.getRequestedAt(), last.getId());
+    }
+}
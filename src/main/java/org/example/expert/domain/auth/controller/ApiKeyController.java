@@ -0,0 +1,36 @@
+package org.example.expert.domain.auth.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.dto.request.ApiKeyCreateRequest;
+import org.example.expert.domain.auth.dto.response.ApiKeyResponse;
+import org.example.expert.domain.auth.dto.response.ApiKeySaveResponse;
+import org.example.expert.domain.auth.service.ApiKeyService;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class ApiKeyController {
+
+    private final ApiKeyService apiKeyService;
+
+    @PostMapping("/api-keys")
+    public ResponseEntity<ApiKeySaveResponse> issueApiKey(@Auth AuthUser authUser, @Valid @RequestBody ApiKeyCreateRequest apiKeyCreateRequest) {
+        return ResponseEntity.ok(apiKeyService.issue(authUser, apiKeyCreateRequest));
+    }
+
+    @GetMapping("/api-keys")
+    public ResponseEntity<List<ApiKeyResponse>> getApiKeys(@Auth AuthUser authUser) {
+        return ResponseEntity.ok(apiKeyService.getApiKeys(authUser));
+    }
+
+    @DeleteMapping("/api-keys/{apiKeyId}")
+    public void revokeApiKey(@Auth AuthUser authUser, @PathVariable long apiKeyId) {
+        apiKeyService.revoke(authUser, apiKeyId);
+    }
+}
@@ -1,11 +1,15 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
+import org.example.expert.domain.auth.service.AuthRateLimiter;
 import org.example.expert.domain.auth.service.AuthService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -16,14 +20,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping("/auth/signup")
-    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
+    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest, HttpServletRequest request) {
+        authRateLimiter.check(request.getRemoteAddr(), signupRequest.getEmail());
         return authService.signup(signupRequest);
     }
 
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        authRateLimiter.check(request.getRemoteAddr(), signinRequest.getEmail());
         return authService.signin(signinRequest);
     }
+
+    @PostMapping("/auth/refresh")
+    public TokenRefreshResponse refresh(@Valid @RequestBody TokenRefreshRequest tokenRefreshRequest) {
+        return authService.refresh(tokenRefreshRequest);
+    }
 }
@@ -0,0 +1,21 @@
+package org.example.expert.domain.auth.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.SecurityEventLogger;
+import org.example.expert.domain.auth.dto.response.JwtFailureMetricsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SecurityAdminController {
+
+    private final SecurityEventLogger securityEventLogger;
+
+    // 서버 기동 이후 JWT 인증 실패 유형별 누적 건수
+    @GetMapping("/admin/security/jwt-failures")
+    public ResponseEntity<JwtFailureMetricsResponse> getJwtFailures() {
+        return ResponseEntity.ok(new JwtFailureMetricsResponse(securityEventLogger.getTotals()));
+    }
+}
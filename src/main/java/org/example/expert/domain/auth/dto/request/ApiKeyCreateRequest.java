@@ -0,0 +1,19 @@
+package org.example.expert.domain.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyCreateRequest {
+
+    @NotBlank
+    private String name;
+    // 비워두면 만료되지 않습니다.
+    @Positive
+    private Integer expiresInDays;
+}
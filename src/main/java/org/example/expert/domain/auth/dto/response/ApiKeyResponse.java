@@ -0,0 +1,21 @@
+package org.example.expert.domain.auth.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ApiKeyResponse {
+
+    private final Long id;
+    private final String name;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime expiresAt;
+
+    public ApiKeyResponse(Long id, String name, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.id = id;
+        this.name = name;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+}
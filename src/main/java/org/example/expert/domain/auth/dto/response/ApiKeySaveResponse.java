@@ -0,0 +1,22 @@
+package org.example.expert.domain.auth.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ApiKeySaveResponse {
+
+    private final Long id;
+    private final String name;
+    // 다시 조회할 수 없으므로 발급 응답에서만 내려줍니다.
+    private final String apiKey;
+    private final LocalDateTime expiresAt;
+
+    public ApiKeySaveResponse(Long id, String name, String apiKey, LocalDateTime expiresAt) {
+        this.id = id;
+        this.name = name;
+        this.apiKey = apiKey;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.auth.dto.response;
+
+import lombok.Getter;
+import org.example.expert.config.JwtFailureType;
+
+import java.util.Map;
+
+@Getter
+public class JwtFailureMetricsResponse {
+
+    private final Map<JwtFailureType, Long> totals;
+
+    public JwtFailureMetricsResponse(Map<JwtFailureType, Long> totals) {
+        this.totals = totals;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "api_keys", indexes = {
+        @Index(name = "idx_api_keys_user_id", columnList = "user_id")
+})
+public class ApiKey extends Timestamped {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 원문은 발급할 때 한 번만 보여주고, SHA-256 해시만 저장합니다.
+    @Column(nullable = false, unique = true, length = 64)
+    private String keyHash;
+
+    @Column(nullable = false)
+    private String name;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // null 이면 만료되지 않습니다.
+    private LocalDateTime expiresAt;
+
+    public ApiKey(String keyHash, String name, User user, LocalDateTime expiresAt) {
+        this.keyHash = keyHash;
+        this.name = name;
+        this.user = user;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// userId 의 토큰 중 발급 시각(밀리초)이 issuedBeforeMillis 보다 이전인 토큰은 모두 폐기된 것으로 본다.
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "token_revocations")
+public class TokenRevocation {
+
+    @Id
+    private Long userId;
+    private long issuedBeforeMillis; // epoch milli
+
+    public TokenRevocation(Long userId, long issuedBeforeMillis) {
+        this.userId = userId;
+        this.issuedBeforeMillis = issuedBeforeMillis;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.ApiKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
+
+    @Query("SELECT k FROM ApiKey k JOIN FETCH k.user WHERE k.keyHash = :keyHash")
+    Optional<ApiKey> findByKeyHashWithUser(@Param("keyHash") String keyHash);
+
+    @Query("SELECT k FROM ApiKey k WHERE k.user.id = :userId ORDER BY k.id DESC")
+    List<ApiKey> findAllByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT k FROM ApiKey k WHERE k.id = :id AND k.user.id = :userId")
+    Optional<ApiKey> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT k.keyHash FROM ApiKey k")
+    Stream<String> streamAllKeyHashes();
+}
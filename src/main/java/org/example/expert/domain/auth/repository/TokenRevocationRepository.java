@@ -0,0 +1,33 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    @Query("SELECT r.userId FROM TokenRevocation r")
+    List<Long> findAllUserIds();
+
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO TokenRevocation (userId, issuedBeforeMillis) VALUES (:userId, :issuedBeforeMillis)")
+    int insert(@Param("userId") long userId, @Param("issuedBeforeMillis") long issuedBeforeMillis);
+
+    // 이미 더 늦은 시각으로 폐기되어 있으면 바꾸지 않습니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE TokenRevocation r SET r.issuedBeforeMillis = :issuedBeforeMillis " +
+            "WHERE r.userId = :userId AND r.issuedBeforeMillis < :issuedBeforeMillis")
+    int revokeBefore(@Param("userId") long userId, @Param("issuedBeforeMillis") long issuedBeforeMillis);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.issuedBeforeMillis < :cutoff")
+    int deleteExpired(@Param("cutoff") long cutoff);
+}
@@ -0,0 +1,198 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.dto.request.ApiKeyCreateRequest;
+import org.example.expert.domain.auth.dto.response.ApiKeyResponse;
+import org.example.expert.domain.auth.dto.response.ApiKeySaveResponse;
+import org.example.expert.domain.auth.entity.ApiKey;
+import org.example.expert.domain.auth.repository.ApiKeyRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.example.expert.domain.common.util.HashUtils;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 배치 작업 같은 기계 클라이언트용 장기 API 키.
+ * 키는 256bit 랜덤 값이라 BCrypt 없이 SHA-256 한 번으로 검증하고, 결과(AuthUser)는 cache-ttl 동안 메모리에 둡니다.
+ * 발급된 적 없는 키는 Bloom filter 에서 걸러지므로 DB 를 조회하지 않습니다.
+ * Bloom filter 는 refresh-interval 마다 DB 기준으로 다시 만들어지므로, 다른 인스턴스에서 발급한 키도 그 주기 안에 쓸 수 있습니다.
+ * 권한이 바뀐 유저의 키는 TokenEpochService 로 확인해서 바로 다시 읽습니다.
+ */
+@Slf4j(topic = "ApiKeyService")
+@Service
+public class ApiKeyService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final String KEY_PREFIX = "ak_";
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final TokenEpochService tokenEpochService;
+    private final long expectedKeys;
+    private final long cacheTtlMillis;
+    private final int cacheSize;
+
+    private volatile BloomFilter issuedKeys;
+    // 갱신 중 아직 커밋되지 않은 발급이 새 Bloom filter 에서 빠지지 않도록, 최근 발급한 keyHash 를 한 주기 더 들고 있습니다.
+    private final Map<String, Long> recentIssues = new ConcurrentHashMap<>();
+    private long lastRefreshStartedAt;
+    // keyHash → 검증 결과 (authUser 가 null 이면 없는 키)
+    private final Map<String, CachedApiKey> cache = new ConcurrentHashMap<>();
+
+    public ApiKeyService(
+            ApiKeyRepository apiKeyRepository,
+            TokenEpochService tokenEpochService,
+            @Value("${auth.api-key.expected-size:100000}") long expectedKeys,
+            @Value("${auth.api-key.cache-ttl-ms:60000}") long cacheTtlMillis,
+            @Value("${auth.api-key.cache-size:10000}") int cacheSize
+    ) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.tokenEpochService = tokenEpochService;
+        this.expectedKeys = expectedKeys;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.cacheSize = cacheSize;
+        this.issuedKeys = new BloomFilter(expectedKeys, 0.01);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.api-key.refresh-interval-ms:30000}",
+            initialDelayString = "${auth.api-key.refresh-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        long startedAt = System.currentTimeMillis();
+        BloomFilter next = new BloomFilter(expectedKeys, 0.01);
+        long count = 0;
+        try (Stream<String> keyHashes = apiKeyRepository.streamAllKeyHashes()) {
+            Iterator<String> iterator = keyHashes.iterator();
+            while (iterator.hasNext()) {
+                next.put(iterator.next());
+                count++;
+            }
+        }
+        for (String keyHash : recentIssues.keySet()) {
+            next.put(keyHash);
+        }
+        issuedKeys = next;
+
+        long previousStartedAt = lastRefreshStartedAt;
+        recentIssues.values().removeIf(issuedAt -> issuedAt < previousStartedAt);
+        lastRefreshStartedAt = startedAt;
+
+        log.debug("API 키 Bloom filter 갱신 ({}건)", count);
+    }
+
+    @Transactional
+    public ApiKeySaveResponse issue(AuthUser authUser, ApiKeyCreateRequest apiKeyCreateRequest) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawKey = KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String keyHash = HashUtils.sha256Hex(rawKey);
+
+        LocalDateTime expiresAt = apiKeyCreateRequest.getExpiresInDays() == null
+                ? null
+                : LocalDateTime.now().plusDays(apiKeyCreateRequest.getExpiresInDays());
+        ApiKey apiKey = apiKeyRepository.save(new ApiKey(keyHash, apiKeyCreateRequest.getName(), User.fromAuthUser(authUser), expiresAt));
+        recentIssues.put(keyHash, System.currentTimeMillis());
+        issuedKeys.put(keyHash);
+
+        return new ApiKeySaveResponse(apiKey.getId(), apiKey.getName(), rawKey, apiKey.getExpiresAt());
+    }
+
+    public List<ApiKeyResponse> getApiKeys(AuthUser authUser) {
+        return apiKeyRepository.findAllByUserId(authUser.getId()).stream()
+                .map(apiKey -> new ApiKeyResponse(apiKey.getId(), apiKey.getName(), apiKey.getCreatedAt(), apiKey.getExpiresAt()))
+                .toList();
+    }
+
+    // 다른 인스턴스의 캐시에는 최대 cache-ttl 동안 남아 있을 수 있습니다.
+    @Transactional
+    public void revoke(AuthUser authUser, long apiKeyId) {
+        ApiKey apiKey = apiKeyRepository.findByIdAndUserId(apiKeyId, authUser.getId())
+                .orElseThrow(() -> new InvalidRequestException("ApiKey not found"));
+        apiKeyRepository.delete(apiKey);
+        cache.remove(apiKey.getKeyHash());
+    }
+
+    // 유효한 키면 키 주인의 AuthUser, 아니면 null 을 반환합니다.
+    public AuthUser authenticate(String rawKey) {
+        return authenticate(rawKey, System.currentTimeMillis());
+    }
+
+    AuthUser authenticate(String rawKey, long now) {
+        if (!rawKey.startsWith(KEY_PREFIX)) {
+            return null;
+        }
+        String keyHash = HashUtils.sha256Hex(rawKey);
+        if (!issuedKeys.mightContain(keyHash)) {
+            return null;
+        }
+
+        CachedApiKey cached = cache.get(keyHash);
+        if (cached == null || !cached.isFresh(now, cacheTtlMillis) || !cached.isCurrent(tokenEpochService)) {
+            cached = load(keyHash, now);
+        }
+        return cached.authUser == null || now >= cached.keyExpiresAt ? null : cached.authUser;
+    }
+
+    private CachedApiKey load(String keyHash, long now) {
+        CachedApiKey loaded = apiKeyRepository.findByKeyHashWithUser(keyHash)
+                .map(apiKey -> {
+                    User user = apiKey.getUser();
+                    long keyExpiresAt = apiKey.getExpiresAt() == null
+                            ? Long.MAX_VALUE
+                            : apiKey.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                    return new CachedApiKey(new AuthUser(user.getId(), user.getEmail(), user.getUserRole()), user.getTokenVersion(), keyExpiresAt, now);
+                })
+                .orElseGet(() -> new CachedApiKey(null, 0, 0, now));
+
+        // 키 개수가 예상보다 많아지면 한 번 비우고 다시 채웁니다.
+        if (cache.size() >= cacheSize) {
+            cache.clear();
+        }
+        cache.put(keyHash, loaded);
+        return loaded;
+    }
+
+    private static final class CachedApiKey {
+        private final AuthUser authUser;
+        private final int tokenVersion;
+        private final long keyExpiresAt;
+        private final long loadedAt;
+
+        private CachedApiKey(AuthUser authUser, int tokenVersion, long keyExpiresAt, long loadedAt) {
+            this.authUser = authUser;
+            this.tokenVersion = tokenVersion;
+            this.keyExpiresAt = keyExpiresAt;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isFresh(long now, long ttlMillis) {
+            return now - loadedAt < ttlMillis;
+        }
+
+        private boolean isCurrent(TokenEpochService tokenEpochService) {
+            return authUser == null || tokenEpochService.isCurrent(authUser.getId(), tokenVersion);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.common.util.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+// 회원가입, 로그인은 요청마다 DB 조회와 BCrypt 를 수행하므로 클라이언트 IP 와 이메일 기준으로 횟수를 제한합니다.
+@Component
+public class AuthRateLimiter {
+
+    private final RateLimiter ipRateLimiter;
+    private final RateLimiter emailRateLimiter;
+
+    public AuthRateLimiter(
+            @Value("${auth.rate-limit.slots:65536}") int slots,
+            @Value("${auth.rate-limit.ip.per-minute:60}") int ipPerMinute,
+            @Value("${auth.rate-limit.ip.burst:20}") int ipBurst,
+            @Value("${auth.rate-limit.email.per-minute:10}") int emailPerMinute,
+            @Value("${auth.rate-limit.email.burst:5}") int emailBurst
+    ) {
+        this.ipRateLimiter = new RateLimiter(slots, ipPerMinute, ipBurst);
+        this.emailRateLimiter = new RateLimiter(slots, emailPerMinute, emailBurst);
+    }
+
+    public void check(String clientIp, String email) {
+        if (!ipRateLimiter.tryAcquire(clientIp)) {
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (email != null && !emailRateLimiter.tryAcquire(email.toLowerCase(Locale.ROOT))) {
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
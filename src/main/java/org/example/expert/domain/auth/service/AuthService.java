@@ -5,28 +5,35 @@ import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserEmailBloomFilter;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+// signup, signin 은 BCrypt 해싱 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 각 조회/저장은 리포지토리 트랜잭션에서 짧게 처리합니다.
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final UserEmailBloomFilter userEmailBloomFilter;
 
-    @Transactional
     public SignupResponse signup(SignupRequest signupRequest) throws InvalidRequestException {
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        // Bloom filter 에 있을 때만 확인 쿼리를 실행해서, 중복 이메일에 BCrypt 를 쓰지 않습니다.
+        String email = User.normalizeEmail(signupRequest.getEmail());
+        if (userEmailBloomFilter.mightExist(email) && userRepository.existsByEmail(email)) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
@@ -35,19 +42,27 @@ public class AuthService {
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
         User newUser = new User(
-                signupRequest.getEmail(),
+                email,
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        // 동시에 같은 이메일로 가입하는 경우는 users.email unique 제약으로 막습니다.
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        userEmailBloomFilter.add(savedUser.getEmail());
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getTokenVersion());
+        String refreshToken = refreshTokenService.issue(savedUser);
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
+        User user = userRepository.findByEmail(User.normalizeEmail(signinRequest.getEmail())).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
@@ -55,8 +70,20 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getTokenVersion());
+        String refreshToken = refreshTokenService.issue(user);
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // 비밀번호 검증 없이 refresh token 조회 한 번으로 토큰을 재발급합니다.
+    @Transactional
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        User user = refreshTokenService.consume(tokenRefreshRequest.getRefreshToken());
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getTokenVersion());
+        String refreshToken = refreshTokenService.issue(user);
 
-        return new SigninResponse(bearerToken);
+        return new TokenRefreshResponse(bearerToken, refreshToken);
     }
 }
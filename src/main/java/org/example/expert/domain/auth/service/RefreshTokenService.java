@@ -0,0 +1,78 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.common.util.HashUtils;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * refresh token 은 256bit 랜덤 값이라 BCrypt 없이 SHA-256 해시의 unique 인덱스 조회 한 번으로 검증합니다.
+ * 한 번 사용한 토큰은 삭제되고 새 토큰이 발급됩니다. (rotation)
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshTokenDays;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-token-days:14}") long refreshTokenDays
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenDays = refreshTokenDays;
+    }
+
+    @Transactional
+    public String issue(User user) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(
+                HashUtils.sha256Hex(rawToken),
+                user,
+                LocalDateTime.now().plusDays(refreshTokenDays)
+        ));
+        return rawToken;
+    }
+
+    // 토큰을 사용 처리(삭제)하고 토큰 주인을 반환합니다. 동시에 같은 토큰을 사용하면 하나만 성공합니다.
+    @Transactional
+    public User consume(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHashWithUser(HashUtils.sha256Hex(rawToken))
+                .orElseThrow(() -> new AuthException("유효하지 않은 refresh token 입니다."));
+
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            throw new AuthException("만료된 refresh token 입니다.");
+        }
+
+        if (refreshTokenRepository.deleteByIdReturningCount(refreshToken.getId()) == 0) {
+            throw new AuthException("이미 사용된 refresh token 입니다.");
+        }
+
+        return refreshToken.getUser();
+    }
+
+    @Transactional
+    public void revokeAll(long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Scheduled(cron = "${jwt.refresh-token-cleanup-cron:0 0 4 * * *}")
+    @Transactional
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+}
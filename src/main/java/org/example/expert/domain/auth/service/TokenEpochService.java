@@ -0,0 +1,92 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 유저별 토큰 버전(User.tokenVersion) 캐시.
+ * 고정 크기 배열에 userId 해시로 슬롯을 정하는 방식이라 메모리가 제한되고, 충돌하면 이전 항목을 덮어씁니다.
+ * 같은 인스턴스의 변경은 커밋 직후 invalidate 로 바로 반영되고, 다른 인스턴스의 변경은 cache-ttl 안에 반영됩니다.
+ * 조회한 값은 조회 전에 본 슬롯 값과 CAS 로 바꿔 넣고, 지울 때는 매번 새 표시 항목을 넣으므로,
+ * 조회하는 사이에 invalidate 가 지나가면 조회한 (커밋 전일 수 있는) 값은 캐시되지 않습니다.
+ */
+@Service
+public class TokenEpochService {
+
+    private final UserRepository userRepository;
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final long ttlNanos;
+
+    public TokenEpochService(
+            UserRepository userRepository,
+            @Value("${jwt.epoch.cache-size:65536}") int cacheSize,
+            @Value("${jwt.epoch.cache-ttl-ms:30000}") long ttlMillis
+    ) {
+        this.userRepository = userRepository;
+        int size = Integer.highestOneBit(Math.max(2, cacheSize - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    // 토큰의 버전이 현재 유저의 버전과 같으면 유효합니다. (탈퇴 등으로 유저가 없으면 무효)
+    public boolean isCurrent(long userId, int tokenVersion) {
+        int slot = slot(userId);
+        long now = System.nanoTime();
+
+        Entry seen = slots.get(slot);
+        if (seen != null && !seen.evicted && seen.userId == userId && now - seen.loadedAt <= ttlNanos) {
+            return seen.version == tokenVersion;
+        }
+
+        Integer version = userRepository.findTokenVersionById(userId).orElse(null);
+        if (version == null) {
+            return false;
+        }
+        slots.compareAndSet(slot, seen, new Entry(userId, version, now, false));
+        return version == tokenVersion;
+    }
+
+    // 트랜잭션 안이면 커밋 후에 한 번 더 지워서, 커밋 전 값을 다른 요청이 다시 캐시하는 경우를 막습니다.
+    public void invalidate(long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    // 같은 슬롯의 다른 유저 항목이나 빈 슬롯이어도 새 표시 항목으로 바꿔서, 진행 중인 조회의 CAS 가 실패하도록 합니다.
+    private void evict(long userId) {
+        slots.set(slot(userId), new Entry(userId, 0, 0, true));
+    }
+
+    private int slot(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static final class Entry {
+        private final long userId;
+        private final int version;
+        private final long loadedAt;
+        private final boolean evicted;
+
+        private Entry(long userId, int version, long loadedAt, boolean evicted) {
+            this.userId = userId;
+            this.version = version;
+            this.loadedAt = loadedAt;
+            this.evicted = evicted;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 단위 토큰 폐기 목록.
+ * JwtFilter 는 매 요청마다 isRevoked 를 호출하므로, 폐기 이력이 없는 유저는 Bloom filter 만 보고 DB 없이 통과시킨다.
+ * Bloom filter 는 refresh-interval 마다 DB 기준으로 다시 만들어지므로, 다른 인스턴스에서 폐기한 토큰도 그 주기 안에 반영된다.
+ */
+@Slf4j(topic = "TokenRevocationService")
+@Service
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final long expectedRevocations;
+
+    private volatile BloomFilter revokedUsers;
+    // 갱신 중 아직 커밋되지 않은 폐기가 새 Bloom filter 에서 빠지지 않도록, 최근 폐기한 userId 를 한 주기 더 들고 있습니다.
+    private final Map<Long, Long> recentRevocations = new ConcurrentHashMap<>();
+    private long lastRefreshStartedAt;
+
+    public TokenRevocationService(
+            TokenRevocationRepository tokenRevocationRepository,
+            @Value("${jwt.revocation.expected-size:100000}") long expectedRevocations
+    ) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.revokedUsers = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    // 지금까지 발급된 userId 의 토큰을 모두 폐기합니다. (같은 밀리초에 발급된 토큰 포함)
+    // 동시에 처음 폐기하는 요청끼리 INSERT 가 부딪히면 UPDATE 로 다시 반영하므로, 각 쿼리를 호출한 쪽 트랜잭션과 분리해서 실행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void revokeAll(long userId) {
+        long now = System.currentTimeMillis();
+        recentRevocations.put(userId, now);
+        revokedUsers.put(userId);
+
+        long issuedBeforeMillis = now + 1;
+        if (tokenRevocationRepository.revokeBefore(userId, issuedBeforeMillis) > 0) {
+            return;
+        }
+        try {
+            tokenRevocationRepository.insert(userId, issuedBeforeMillis);
+        } catch (DataIntegrityViolationException e) {
+            // 이미 행이 있었거나(더 늦은 시각으로 폐기된 경우 포함) 다른 요청이 먼저 넣었습니다.
+            tokenRevocationRepository.revokeBefore(userId, issuedBeforeMillis);
+        }
+    }
+
+    // issuedAtMillis 가 null 이면 발급 시각을 알 수 없으므로 폐기 이력이 있는 유저의 토큰은 거부합니다.
+    public boolean isRevoked(long userId, Long issuedAtMillis) {
+        if (!revokedUsers.mightContain(userId)) {
+            return false;
+        }
+
+        return tokenRevocationRepository.findById(userId)
+                .map(revocation -> issuedAtMillis == null || issuedAtMillis < revocation.getIssuedBeforeMillis())
+                .orElse(false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    // 만료 시간이 지난 폐기 이력은 지우고, 남은 이력으로 Bloom filter 를 다시 만듭니다.
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:60000}",
+            initialDelayString = "${jwt.revocation.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        long startedAt = System.currentTimeMillis();
+        long cutoff = startedAt - JwtUtil.TOKEN_TIME;
+        int deleted = tokenRevocationRepository.deleteExpired(cutoff);
+
+        BloomFilter next = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+        for (Long userId : tokenRevocationRepository.findAllUserIds()) {
+            next.put(userId);
+        }
+        for (Long userId : recentRevocations.keySet()) {
+            next.put(userId);
+        }
+        revokedUsers = next;
+
+        long previousStartedAt = lastRefreshStartedAt;
+        recentRevocations.values().removeIf(revokedAt -> revokedAt < previousStartedAt);
+        lastRefreshStartedAt = startedAt;
+
+        log.debug("토큰 폐기 목록 갱신 (만료 삭제 {}건)", deleted);
+    }
+}
@@ -6,10 +6,13 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentStreamService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,6 +21,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -32,4 +36,10 @@ public class CommentController {
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    // 새 댓글을 SSE 로 받습니다. (event: comment, id: 댓글 id) 연결 직후 놓친 댓글은 위의 목록 조회로 한 번 읽습니다.
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamComments(@PathVariable long todoId) {
+        return ResponseEntity.ok(commentStreamService.subscribe(todoId));
+    }
 }
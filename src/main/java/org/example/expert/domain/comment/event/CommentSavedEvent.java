@@ -0,0 +1,17 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+// 댓글이 커밋되면 해당 일정의 SSE 구독자에게 보냅니다.
+@Getter
+public class CommentSavedEvent {
+
+    private final long todoId;
+    private final CommentResponse comment;
+
+    public CommentSavedEvent(long todoId, CommentResponse comment) {
+        this.todoId = todoId;
+        this.comment = comment;
+    }
+}
@@ -1,14 +1,30 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.todo.dto.TodoExportCommentRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 내보내기용
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoExportCommentRow(" +
+            "c.todo.id, c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id IN :todoIds ORDER BY c.id")
+    List<TodoExportCommentRow> findExportRowsByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 검색 재색인용. id 순으로 lastId 다음부터 읽습니다.
+    @Query("SELECT new org.example.expert.domain.search.dto.SearchDocument(" +
+            "org.example.expert.domain.search.enums.SearchType.COMMENT, c.id, c.todo.id, null, c.contents) " +
+            "FROM Comment c WHERE c.id > :lastId ORDER BY c.id")
+    List<SearchDocument> findSearchDocumentsAfter(@Param("lastId") long lastId, Pageable pageable);
 }
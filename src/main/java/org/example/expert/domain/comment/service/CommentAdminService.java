@@ -2,6 +2,10 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.search.enums.SearchType;
+import org.example.expert.domain.search.event.SearchIndexEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,9 +14,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void deleteComment(long commentId) {
+        // 댓글이 지워지기 전에 어느 일정의 댓글인지 찾아서 줄입니다.
+        todoRepository.decrementCommentCountByCommentId(commentId);
         commentRepository.deleteById(commentId);
+        eventPublisher.publishEvent(SearchIndexEvent.deleted(SearchType.COMMENT, commentId));
     }
 }
@@ -5,13 +5,17 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.search.event.SearchIndexEvent;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,7 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -44,11 +49,15 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todoId, 1);
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        eventPublisher.publishEvent(SearchIndexEvent.indexed(SearchDocument.comment(savedComment.getId(), todoId, savedComment.getContents())));
+        eventPublisher.publishEvent(new CommentSavedEvent(todoId, new CommentResponse(savedComment.getId(), savedComment.getContents(), userResponse)));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
                 savedComment.getContents(),
-                new UserResponse(user.getId(), user.getEmail())
+                userResponse
         );
     }
 
@@ -77,6 +86,7 @@ public class CommentService {
         showThrow();
 
         commentRepository.deleteAll(todo.getComments());
+        todoRepository.addCommentCount(todoId, -todo.getComments().size());
     }
 
     public void showThrow() {
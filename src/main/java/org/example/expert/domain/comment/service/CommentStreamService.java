@@ -0,0 +1,204 @@
+package org.example.expert.domain.comment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.AsyncConfig;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일정별 댓글 SSE 스트림.
+ * 연결은 서블릿 비동기 요청으로 잡아 두므로 대기 중인 구독자는 스레드를 쓰지 않고, 보낼 게 생겼을 때만 comment-stream 스레드가 전송합니다.
+ * 구독자마다 buffer-size 만큼만 쌓고, 넘치면 느린 구독자로 보고 연결을 끊습니다. (클라이언트는 재연결 후 목록을 한 번 다시 읽으면 됩니다.)
+ */
+@Slf4j(topic = "CommentStreamService")
+@Service
+public class CommentStreamService {
+
+    private final TodoRepository todoRepository;
+    private final Executor executor;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder evictedCount = new LongAdder();
+
+    public CommentStreamService(
+            TodoRepository todoRepository,
+            @Qualifier(AsyncConfig.COMMENT_STREAM_EXECUTOR) Executor executor,
+            @Value("${comment.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${comment.stream.buffer-size:64}") int bufferSize,
+            @Value("${comment.stream.max-subscribers:10000}") int maxSubscribers
+    ) {
+        this.todoRepository = todoRepository;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public SseEmitter subscribe(long todoId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new TooManyRequestsException("구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Subscriber subscriber = new Subscriber(todoId, new SseEmitter(timeoutMillis));
+        // remove 가 빈 Set 을 맵에서 지우는 것과 겹치지 않도록, 추가도 같은 키의 compute 안에서 합니다.
+        subscribers.compute(todoId, (id, todoSubscribers) -> {
+            Set<Subscriber> set = todoSubscribers == null ? ConcurrentHashMap.newKeySet() : todoSubscribers;
+            set.add(subscriber);
+            return set;
+        });
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+        return subscriber.emitter;
+    }
+
+    // 롤백된 댓글이 나가지 않도록 커밋 후에 보냅니다. 버퍼에 넣기만 하므로 커밋한 요청 스레드를 붙잡지 않습니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(CommentSavedEvent event) {
+        Set<Subscriber> todoSubscribers = subscribers.get(event.getTodoId());
+        if (todoSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : todoSubscribers) {
+            if (!subscriber.offer(event.getComment())) {
+                evict(subscriber);
+            }
+        }
+    }
+
+    // 프록시나 로드밸런서가 유휴 연결을 끊지 않도록, 보낼 댓글이 없는 구독자에게 주석 한 줄을 보냅니다.
+    @Scheduled(fixedDelayString = "${comment.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> todoSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : todoSubscribers) {
+                subscriber.heartbeat();
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            evictedCount.increment();
+            log.debug("느린 구독자 연결을 끊습니다. todoId={}", subscriber.todoId);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.todoId, (id, todoSubscribers) -> {
+            todoSubscribers.remove(subscriber);
+            return todoSubscribers.isEmpty() ? null : todoSubscribers;
+        });
+        return true;
+    }
+
+    private final class Subscriber {
+
+        private final long todoId;
+        private final SseEmitter emitter;
+        private final Queue<CommentResponse> buffer;
+        private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+        // 전송 작업이 큐에 있거나 실행 중이면 true. 구독자당 전송은 한 스레드에서만 하므로 순서가 유지됩니다.
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(long todoId, SseEmitter emitter) {
+            this.todoId = todoId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean offer(CommentResponse comment) {
+            if (!buffer.offer(comment)) {
+                return false;
+            }
+            schedule();
+            return true;
+        }
+
+        private void heartbeat() {
+            if (buffer.isEmpty()) {
+                heartbeatPending.set(true);
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (closed.get() || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                remove(this);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (heartbeatPending.getAndSet(false)) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                CommentResponse comment;
+                while (!closed.get() && (comment = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(comment.getId()))
+                            .name("comment")
+                            .data(comment, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나 이미 완료된 연결
+                remove(this);
+                return;
+            }
+            scheduled.set(false);
+            // 전송 중에 들어온 댓글이나 heartbeat 가 남지 않도록 한 번 더 확인합니다.
+            if (!buffer.isEmpty() || heartbeatPending.get()) {
+                schedule();
+            }
+        }
+    }
+}
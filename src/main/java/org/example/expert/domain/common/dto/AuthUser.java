@@ -6,6 +6,9 @@ import org.example.expert.domain.user.enums.UserRole;
 @Getter
 public class AuthUser {
 
+    // JwtFilter 가 인증 정보를 담아두는 request attribute 이름
+    public static final String REQUEST_ATTRIBUTE = AuthUser.class.getName();
+
     private final Long id;
     private final String email;
     private final UserRole userRole;
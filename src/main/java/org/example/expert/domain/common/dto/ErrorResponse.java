@@ -0,0 +1,18 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class ErrorResponse {
+
+    private final String status;
+    private final int code;
+    private final String message;
+
+    public ErrorResponse(HttpStatus status, String message) {
+        this.status = status.name();
+        this.code = status.value();
+        this.message = message;
+    }
+}
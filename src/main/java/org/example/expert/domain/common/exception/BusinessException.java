@@ -0,0 +1,12 @@
+package org.example.expert.domain.common.exception;
+
+/**
+ * 없는 리소스, 잘못된 비밀번호처럼 정상 흐름에서 던지는 4xx 예외.
+ * 요청마다 스택 트레이스를 채우는 비용이 크고 응답에도 쓰이지 않으므로 채우지 않습니다. (suppression 도 사용하지 않습니다.)
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.domain.common.exception;
 
+// 외부 API 실패, SQL 실행 횟수 초과처럼 원인을 찾아야 하는 5xx 예외이므로 BusinessException 과 달리 스택 트레이스를 채웁니다.
 public class ServerException extends RuntimeException {
 
     public ServerException(String message) {
@@ -0,0 +1,51 @@
+package org.example.expert.domain.common.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 요청 수를 제한하는 lock-free rate limiter. (GCRA, token bucket 과 동일한 동작)
+ * 키는 해시로 고정 개수의 슬롯에 나눠 담기므로 키 개수와 상관없이 메모리가 일정하고,
+ * 오래 사용하지 않은 슬롯은 값이 과거 시각이 되어 새 슬롯과 같아지므로 따로 지울 필요가 없다.
+ * 서로 다른 키가 같은 슬롯에 들어가면 한도를 함께 쓴다.
+ */
+public class RateLimiter {
+
+    private final AtomicLongArray theoreticalArrivalTimes;
+    private final int mask;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    // permitsPerMinute 의 속도로 채워지고 최대 burst 개까지 몰아서 허용합니다.
+    public RateLimiter(int slots, int permitsPerMinute, int burst) {
+        int size = Integer.highestOneBit(Math.max(2, slots - 1)) << 1;
+        this.theoreticalArrivalTimes = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+    }
+
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    boolean tryAcquire(String key, long now) {
+        int slot = slot(key);
+        while (true) {
+            long tat = theoreticalArrivalTimes.get(slot);
+            // 0 은 한 번도 쓰지 않은 슬롯
+            long base = tat == 0 || tat - now < 0 ? now : tat;
+            if (base - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalTimes.compareAndSet(slot, tat, base + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    private int slot(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
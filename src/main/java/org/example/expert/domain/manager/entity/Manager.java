@@ -9,7 +9,9 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers", indexes = {
+        @Index(name = "idx_managers_user_id_todo_id", columnList = "user_id, todo_id")
+})
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
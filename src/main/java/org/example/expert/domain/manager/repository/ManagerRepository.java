@@ -1,13 +1,21 @@
 package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.TodoExportManagerRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 내보내기용
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoExportManagerRow(" +
+            "m.todo.id, m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id IN :todoIds ORDER BY m.id")
+    List<TodoExportManagerRow> findExportRowsByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
 }
@@ -53,6 +53,7 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.addManagerCount(todoId, 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -97,5 +98,6 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todoId, -1);
     }
 }
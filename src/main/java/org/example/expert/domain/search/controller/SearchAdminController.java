@@ -0,0 +1,21 @@
+package org.example.expert.domain.search.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.search.service.SearchReindexService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchAdminController {
+
+    private final SearchReindexService searchReindexService;
+
+    // 재색인은 백그라운드에서 진행되고, 끝나면 한 번에 검색 결과에 반영됩니다.
+    @PostMapping("/admin/search/reindex")
+    public ResponseEntity<Void> reindex() {
+        searchReindexService.reindexAll();
+        return ResponseEntity.accepted().build();
+    }
+}
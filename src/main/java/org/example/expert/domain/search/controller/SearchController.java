@@ -0,0 +1,26 @@
+package org.example.expert.domain.search.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.search.dto.response.SearchResultResponse;
+import org.example.expert.domain.search.service.SearchIndexService;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<SearchResultResponse>> search(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(searchIndexService.search(keyword, page, size));
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.search.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.search.enums.SearchType;
+
+// 색인할 내용. comment 는 title 이 없고, todoId 는 검색 결과에서 할일로 이동할 때 사용합니다.
+@Getter
+public class SearchDocument {
+
+    private final SearchType type;
+    private final Long id;
+    private final Long todoId;
+    private final String title;
+    private final String contents;
+
+    public SearchDocument(SearchType type, Long id, Long todoId, String title, String contents) {
+        this.type = type;
+        this.id = id;
+        this.todoId = todoId;
+        this.title = title;
+        this.contents = contents;
+    }
+
+    public static SearchDocument todo(Long id, String title, String contents) {
+        return new SearchDocument(SearchType.TODO, id, id, title, contents);
+    }
+
+    public static SearchDocument comment(Long id, Long todoId, String contents) {
+        return new SearchDocument(SearchType.COMMENT, id, todoId, null, contents);
+    }
+}
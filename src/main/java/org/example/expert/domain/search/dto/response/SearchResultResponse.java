@@ -0,0 +1,22 @@
+package org.example.expert.domain.search.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.search.enums.SearchType;
+
+@Getter
+public class SearchResultResponse {
+
+    private final SearchType type;
+    private final Long id;
+    private final Long todoId;
+    private final String title;
+    private final float score;
+
+    public SearchResultResponse(SearchType type, Long id, Long todoId, String title, float score) {
+        this.type = type;
+        this.id = id;
+        this.todoId = todoId;
+        this.title = title;
+        this.score = score;
+    }
+}
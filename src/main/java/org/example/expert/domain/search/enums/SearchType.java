@@ -0,0 +1,5 @@
+package org.example.expert.domain.search.enums;
+
+public enum SearchType {
+    TODO, COMMENT
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.search.event;
+
+import lombok.Getter;
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.search.enums.SearchType;
+
+// 커밋된 변경을 검색 색인에 반영하라는 이벤트. document 가 null 이면 삭제입니다.
+@Getter
+public class SearchIndexEvent {
+
+    private final SearchType type;
+    private final Long id;
+    private final SearchDocument document;
+
+    private SearchIndexEvent(SearchType type, Long id, SearchDocument document) {
+        this.type = type;
+        this.id = id;
+        this.document = document;
+    }
+
+    public static SearchIndexEvent indexed(SearchDocument document) {
+        return new SearchIndexEvent(document.getType(), document.getId(), document);
+    }
+
+    public static SearchIndexEvent deleted(SearchType type, long id) {
+        return new SearchIndexEvent(type, id, null);
+    }
+
+    public boolean isDeleted() {
+        return document == null;
+    }
+}
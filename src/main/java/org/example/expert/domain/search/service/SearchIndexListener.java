@@ -0,0 +1,40 @@
+package org.example.expert.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.AsyncConfig;
+import org.example.expert.domain.search.event.SearchIndexEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+
+    private final SearchIndexService searchIndexService;
+    private final SearchReindexService searchReindexService;
+
+    @Value("${search.reindex-on-startup:true}")
+    private boolean reindexOnStartup;
+
+    // 커밋된 변경만 요청 스레드와 별개로 색인합니다.
+    @Async(AsyncConfig.SEARCH_INDEX_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(SearchIndexEvent event) {
+        if (event.isDeleted()) {
+            searchIndexService.delete(event.getType(), event.getId());
+        } else {
+            searchIndexService.index(event.getDocument());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexOnStartup() {
+        if (reindexOnStartup) {
+            searchReindexService.reindexAll();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.expert.domain.search.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.search.dto.response.SearchResultResponse;
+import org.example.expert.domain.search.enums.SearchType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * todo 제목/내용, comment 내용의 Lucene 역색인.
+ * 한글은 조사가 붙어도 찾을 수 있도록 CJKAnalyzer 의 2-gram 으로 색인하고, 검색어의 모든 토큰이 제목이나 내용에 있어야 결과에 포함됩니다. (제목에 있으면 가중치 2배)
+ * search.index.dir 을 비워두면 메모리에만 두고, 기동할 때마다 SearchReindexService 가 다시 만듭니다.
+ * 쓰기는 SearchIndexListener 의 단일 스레드에서만 하고, 검색은 refresh-interval 마다 갱신되는 searcher 로 합니다.
+ */
+@Slf4j(topic = "SearchIndexService")
+@Service
+public class SearchIndexService {
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String TODO_ID = "todoId";
+    private static final String TITLE = "title";
+    // 제목 + 내용. 토큰마다 이 필드의 TermQuery 하나만 MUST 로 걸어야 Lucene 이 posting list 를 건너뛰며 교집합을 구합니다.
+    private static final String TEXT = "text";
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final int MAX_RESULT_WINDOW = 1000;
+
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    // 전체 재색인 중에는 중간 상태가 검색되지 않도록 refresh 하지 않습니다.
+    private volatile boolean reindexing;
+
+    public SearchIndexService(@Value("${search.index.dir:}") String indexDir) throws IOException {
+        this.directory = StringUtils.hasText(indexDir) ? FSDirectory.open(Path.of(indexDir)) : new ByteBuffersDirectory();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void index(SearchDocument searchDocument) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(searchDocument.getType(), searchDocument.getId()), Field.Store.NO));
+        document.add(new StoredField(TYPE, searchDocument.getType().name()));
+        document.add(new StoredField(ID, searchDocument.getId()));
+        document.add(new StoredField(TODO_ID, searchDocument.getTodoId()));
+        if (searchDocument.getTitle() != null) {
+            document.add(new TextField(TITLE, searchDocument.getTitle(), Field.Store.YES));
+            document.add(new TextField(TEXT, searchDocument.getTitle(), Field.Store.NO));
+        }
+        if (searchDocument.getContents() != null) {
+            document.add(new TextField(TEXT, searchDocument.getContents(), Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(new Term(KEY, key(searchDocument.getType(), searchDocument.getId())), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(SearchType type, long id) {
+        try {
+            writer.deleteDocuments(new Term(KEY, key(type, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void startReindex() {
+        reindexing = true;
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            reindexing = false;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finishReindex() {
+        reindexing = false;
+        commit();
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${search.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (reindexing) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("검색 색인 갱신 실패 : {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.commit-interval-ms:60000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.warn("검색 색인 커밋 실패 : {}", e.getMessage());
+        }
+    }
+
+    public Page<SearchResultResponse> search(String keyword, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page - 1, size);
+        if (pageRequest.getOffset() + size > MAX_RESULT_WINDOW) {
+            throw new InvalidRequestException("검색 결과는 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return Page.empty(pageRequest);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, (int) pageRequest.getOffset() + size);
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchResultResponse> results = new ArrayList<>(size);
+                for (int i = (int) pageRequest.getOffset(); i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    Document document = storedFields.document(scoreDoc.doc);
+                    results.add(new SearchResultResponse(
+                            SearchType.valueOf(document.get(TYPE)),
+                            document.getField(ID).numericValue().longValue(),
+                            document.getField(TODO_ID).numericValue().longValue(),
+                            document.get(TITLE),
+                            scoreDoc.score
+                    ));
+                }
+                return new PageImpl<>(results, pageRequest, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new ServerException("검색에 실패했습니다.");
+        }
+    }
+
+    // 검색어의 모든 토큰이 제목이나 내용에 있어야 하고, 제목에도 있으면 점수를 더합니다.
+    private Query buildQuery(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(TEXT, keyword)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            query.add(new TermQuery(new Term(TEXT, term)), BooleanClause.Occur.MUST);
+            query.add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private static String key(SearchType type, long id) {
+        return type.name() + ':' + id;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.AsyncConfig;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+// 검색 색인을 DB 기준으로 다시 만듭니다. 증분 색인과 같은 스레드에서 실행되므로, 재색인 중 들어온 변경은 끝난 뒤 순서대로 반영됩니다.
+@Slf4j(topic = "SearchReindexService")
+@Service
+@RequiredArgsConstructor
+public class SearchReindexService {
+
+    private final SearchIndexService searchIndexService;
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${search.reindex.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Async(AsyncConfig.SEARCH_INDEX_EXECUTOR)
+    public void reindexAll() {
+        long startedAt = System.currentTimeMillis();
+        searchIndexService.startReindex();
+        try {
+            long todos = reindex(todoRepository::findSearchDocumentsAfter);
+            long comments = reindex(commentRepository::findSearchDocumentsAfter);
+            log.info("검색 색인 재생성 완료 (todo {}건, comment {}건, {}ms)", todos, comments, System.currentTimeMillis() - startedAt);
+        } finally {
+            searchIndexService.finishReindex();
+        }
+    }
+
+    // 대량으로 INSERT 된 일정 id 범위만 색인합니다. 범위 안에 섞인 다른 일정은 같은 내용으로 다시 색인될 뿐입니다.
+    @Async(AsyncConfig.SEARCH_INDEX_EXECUTOR)
+    public void reindexTodos(long fromId, long toId) {
+        reindex(todoRepository::findSearchDocumentsAfter, fromId - 1, toId);
+    }
+
+    private long reindex(BiFunction<Long, Pageable, List<SearchDocument>> findAfter) {
+        return reindex(findAfter, 0, Long.MAX_VALUE);
+    }
+
+    private long reindex(BiFunction<Long, Pageable, List<SearchDocument>> findAfter, long afterId, long toId) {
+        Pageable limit = PageRequest.of(0, batchSize);
+        long count = 0;
+        long lastId = afterId;
+        List<SearchDocument> documents;
+        do {
+            documents = findAfter.apply(lastId, limit);
+            for (SearchDocument document : documents) {
+                if (document.getId() > toId) {
+                    return count;
+                }
+                searchIndexService.index(document);
+                lastId = document.getId();
+                count++;
+            }
+        } while (documents.size() == batchSize);
+        return count;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoViewMetricsResponse;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.example.expert.domain.todo.service.TodoViewCounter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final TodoViewCounter todoViewCounter;
+    private final TodoExportService todoExportService;
+    private final TodoImportService todoImportService;
+    private final ObjectMapper objectMapper;
+
+    // 조회수 flush 지연, 배치 크기 (서버 기동 이후 누적)
+    @GetMapping("/admin/todos/view-metrics")
+    public ResponseEntity<TodoViewMetricsResponse> getViewMetrics() {
+        return ResponseEntity.ok(todoViewCounter.getMetrics());
+    }
+
+    // 전체 일정을 담당자, 댓글과 함께 파일로 내려받습니다. (format : ndjson | csv, gzip : true 면 .gz)
+    @GetMapping("/admin/todos/export")
+    public void exportTodos(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        TodoExportFormat exportFormat = TodoExportFormat.of(format);
+        String filename = "todos." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        if (gzip) {
+            response.setContentType("application/gzip");
+        } else {
+            response.setContentType(exportFormat.getContentType());
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+
+        // syncFlush : batch 마다 flush 할 때 압축된 데이터도 바로 내보냅니다.
+        OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream(), BUFFER_SIZE, true) : response.getOutputStream();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        todoExportService.export(exportFormat, writer);
+        // 끝까지 쓴 경우에만 닫아서 gzip trailer 를 붙입니다.
+        // 중간에 실패하면 닫지 않고 예외를 그대로 던지므로, 이미 보낸 응답은 컨테이너가 연결을 끊어 잘린 파일로 남습니다.
+        writer.close();
+    }
+
+    // 한 줄에 일정 하나씩 NDJSON 으로 받고, 처리한 묶음마다 누적 건수와 실패한 줄을 NDJSON 으로 바로 내려보냅니다.
+    @PostMapping(value = "/admin/todos/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importTodos(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter writer = response.getWriter();
+
+        todoImportService.importTodos(request.getReader(), progress -> {
+            try {
+                writer.write(objectMapper.writeValueAsString(progress));
+                writer.write('\n');
+                response.flushBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
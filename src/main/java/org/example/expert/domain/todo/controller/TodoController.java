@@ -4,14 +4,21 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.TodoFilter;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
@@ -34,6 +41,31 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    // 필터 + keyset 페이지. 첫 페이지는 cursorAt, cursorId 없이, 다음 페이지는 응답의 nextCursorAt, nextCursorId 로 요청합니다.
+    @GetMapping("/todos/scroll")
+    public ResponseEntity<TodoPageResponse> getTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) Long ownerId,
+            @RequestParam(defaultValue = "false") boolean managedByMe,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        TodoFilter filter = new TodoFilter(ownerId, managedByMe ? authUser.getId() : null, weather, createdFrom, createdTo, modifiedFrom, modifiedTo);
+        return ResponseEntity.ok(todoService.getTodos(filter, cursorAt, cursorId, size));
+    }
+
+    // GET /todos/batch?ids=3,1,2
+    @GetMapping("/todos/batch")
+    public ResponseEntity<TodoBatchResponse> getTodos(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(todoService.getTodos(ids));
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+@Getter
+public class TodoExportCommentRow {
+
+    private final Long todoId;
+    private final Long id;
+    private final String contents;
+    private final Long userId;
+    private final String userEmail;
+
+    public TodoExportCommentRow(Long todoId, Long id, String contents, Long userId, String userEmail) {
+        this.todoId = todoId;
+        this.id = id;
+        this.contents = contents;
+        this.userId = userId;
+        this.userEmail = userEmail;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+@Getter
+public class TodoExportManagerRow {
+
+    private final Long todoId;
+    private final Long id;
+    private final Long userId;
+    private final String userEmail;
+
+    public TodoExportManagerRow(Long todoId, Long id, Long userId, String userEmail) {
+        this.todoId = todoId;
+        this.id = id;
+        this.userId = userId;
+        this.userEmail = userEmail;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내보내기용 일정 한 행. 엔티티가 아닌 DTO 로 바로 읽어서 영속성 컨텍스트에 쌓이지 않습니다.
+@Getter
+public class TodoExportRow {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final Long userId;
+    private final String userEmail;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoExportRow(Long id, String title, String contents, String weather, Long userId, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
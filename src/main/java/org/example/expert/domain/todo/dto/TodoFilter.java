@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 일정 목록 필터. null 인 조건은 적용하지 않으며, 기간은 from 이상 to 미만입니다.
+@Getter
+public class TodoFilter {
+
+    private final Long ownerId;
+    private final Long managerId;
+    private final String weather;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final LocalDateTime modifiedFrom;
+    private final LocalDateTime modifiedTo;
+
+    public TodoFilter(Long ownerId, Long managerId, String weather, LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime modifiedFrom, LocalDateTime modifiedTo) {
+        this.ownerId = ownerId;
+        this.managerId = managerId;
+        this.weather = weather;
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+        this.modifiedFrom = modifiedFrom;
+        this.modifiedTo = modifiedTo;
+    }
+}
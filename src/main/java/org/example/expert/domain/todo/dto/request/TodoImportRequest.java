@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 대량 가져오기 한 줄. weather 가 없으면 오늘 날씨로 채웁니다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportRequest {
+
+    @NotBlank
+    private String title;
+    @NotBlank
+    private String contents;
+    private String weather;
+    @NotNull
+    private Long ownerId;
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchResponse {
+
+    // 요청한 id 순서 (중복 id 는 한 번만)
+    private final List<TodoResponse> todos;
+    private final List<Long> missingIds;
+
+    public TodoBatchResponse(List<TodoResponse> todos, List<Long> missingIds) {
+        this.todos = todos;
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// NDJSON 내보내기의 한 줄
+@Getter
+public class TodoExportResponse {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final UserResponse user;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final List<ManagerResponse> managers;
+    private final List<CommentResponse> comments;
+
+    public TodoExportResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt, List<ManagerResponse> managers, List<CommentResponse> comments) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.user = user;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.managers = managers;
+        this.comments = comments;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoImportError {
+
+    private final long line;
+    private final String message;
+
+    public TodoImportError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+}
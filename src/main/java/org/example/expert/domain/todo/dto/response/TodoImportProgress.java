@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 묶음마다 하나씩 내려갑니다. 건수는 처음부터의 누적이고, errors 는 이번 묶음에서 실패한 줄입니다.
+@Getter
+public class TodoImportProgress {
+
+    private final long processed;
+    private final long created;
+    private final long failed;
+    private final List<TodoImportError> errors;
+
+    public TodoImportProgress(long processed, long created, long failed, List<TodoImportError> errors) {
+        this.processed = processed;
+        this.created = created;
+        this.failed = failed;
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class TodoPageResponse {
+
+    private final List<TodoResponse> todos;
+    // 다음 페이지 조회 시 cursorAt, cursorId 로 전달 (마지막 페이지면 null)
+    private final LocalDateTime nextCursorAt;
+    private final Long nextCursorId;
+
+    public TodoPageResponse(List<TodoResponse> todos, LocalDateTime nextCursorAt, Long nextCursorId) {
+        this.todos = todos;
+        this.nextCursorAt = nextCursorAt;
+        this.nextCursorId = nextCursorId;
+    }
+}
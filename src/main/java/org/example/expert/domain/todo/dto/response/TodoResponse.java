@@ -15,8 +15,11 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final int commentCount;
+    private final int managerCount;
+    private final long viewCount;
 
-    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount, long viewCount) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +27,8 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.viewCount = viewCount;
     }
 }
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoViewMetricsResponse {
+
+    // 아직 DB 에 반영되지 않은 조회가 있는 일정 수
+    private final int pendingTodos;
+    // 직전 flush 에서 가장 오래 기다린 조회가 반영되기까지 걸린 시간
+    private final long lastFlushLagMillis;
+    // 직전 flush 에서 UPDATE 한 행 수
+    private final int lastBatchSize;
+    private final long flushCount;
+    private final long flushedRows;
+    private final long flushedViews;
+    private final long failedFlushCount;
+
+    public TodoViewMetricsResponse(int pendingTodos, long lastFlushLagMillis, int lastBatchSize, long flushCount, long flushedRows, long flushedViews, long failedFlushCount) {
+        this.pendingTodos = pendingTodos;
+        this.lastFlushLagMillis = lastFlushLagMillis;
+        this.lastBatchSize = lastBatchSize;
+        this.flushCount = flushCount;
+        this.flushedRows = flushedRows;
+        this.flushedViews = flushedViews;
+        this.failedFlushCount = failedFlushCount;
+    }
+}
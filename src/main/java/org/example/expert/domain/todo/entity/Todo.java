@@ -14,7 +14,12 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at", columnList = "modified_at, id"),
+        @Index(name = "idx_todos_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_todos_user_id_modified_at", columnList = "user_id, modified_at, id"),
+        @Index(name = "idx_todos_weather_modified_at", columnList = "weather, modified_at, id")
+})
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +27,14 @@ public class Todo extends Timestamped {
     private String title;
     private String contents;
     private String weather;
+    // 목록에서 COUNT 쿼리 없이 보여주기 위한 비정규화 값. TodoRepository 의 증감 쿼리로만 바꾸고, 엔티티 flush 로는 덮어쓰지 않습니다.
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+    @Column(nullable = false, updatable = false)
+    private int managerCount;
+    // TodoViewCounter 가 모아서 주기적으로 더하므로 flush 주기만큼 늦게 반영됩니다.
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -39,6 +52,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
     }
 
     public void update(String title, String contents) {
@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+@Getter
+@RequiredArgsConstructor
+public enum TodoExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static TodoExportFormat of(String format) {
+        for (TodoExportFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new InvalidRequestException("지원하지 않는 형식입니다.");
+    }
+}
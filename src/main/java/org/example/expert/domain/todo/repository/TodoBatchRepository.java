@@ -0,0 +1,76 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoImportRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 대량 가져오기는 IDENTITY 전략 때문에 JPA 로 배치 INSERT 가 되지 않으므로, 일정과 작성자 담당자 행을 JDBC 배치로 저장합니다.
+@Repository
+@RequiredArgsConstructor
+public class TodoBatchRepository {
+
+    // Todo 생성자와 같이 작성자가 첫 담당자이므로 manager_count 는 1 입니다.
+    private static final String INSERT_TODO_SQL = "INSERT INTO todos " +
+            "(title, contents, weather, user_id, comment_count, manager_count, view_count, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, 0, 1, 0, ?, ?)";
+    private static final String INSERT_MANAGER_SQL = "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+    private static final String[] KEY_COLUMNS = {"id"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 생성된 일정 id 를 순서대로 돌려줍니다. 하나라도 실패하면 담당자까지 전부 롤백됩니다.
+    @Transactional
+    public List<Long> saveAll(List<TodoImportRequest> todos) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_TODO_SQL, KEY_COLUMNS), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TodoImportRequest todo = todos.get(i);
+                ps.setString(1, todo.getTitle());
+                ps.setString(2, todo.getContents());
+                ps.setString(3, todo.getWeather());
+                ps.setLong(4, todo.getOwnerId());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return todos.size();
+            }
+        }, keyHolder);
+
+        List<Long> ids = new ArrayList<>(todos.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_MANAGER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, todos.get(i).getOwnerId());
+                ps.setLong(2, ids.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return todos.size();
+            }
+        });
+        return ids;
+    }
+}
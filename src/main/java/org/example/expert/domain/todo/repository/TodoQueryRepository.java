@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 필터 조건이 붙는 일정 목록을 modifiedAt, id 역순 keyset 으로 조회합니다.
+ * 조건마다 Todo, Manager 에 선언한 복합 인덱스를 타도록, 값이 없는 조건은 "(:x IS NULL OR ...)" 로 두지 않고 SQL 에서 아예 뺍니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoQueryRepository {
+
+    private static final RowMapper<TodoResponse> ROW_MAPPER = (rs, rowNum) -> new TodoResponse(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("contents"),
+            rs.getString("weather"),
+            new UserResponse(rs.getLong("user_id"), rs.getString("email")),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("modified_at", LocalDateTime.class),
+            rs.getInt("comment_count"),
+            rs.getInt("manager_count"),
+            rs.getLong("view_count")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<TodoResponse> findPage(TodoFilter filter, LocalDateTime cursorAt, Long cursorId, int size) {
+        return jdbcTemplate.query(buildSql(filter), bindParams(filter, cursorAt, cursorId, size), ROW_MAPPER);
+    }
+
+    String buildSql(TodoFilter filter) {
+        StringBuilder sql = new StringBuilder("SELECT t.id, t.title, t.contents, t.weather, t.created_at, t.modified_at, t.comment_count, t.manager_count, t.view_count, u.id AS user_id, u.email " +
+                "FROM todos t JOIN users u ON u.id = t.user_id " +
+                // 범위 조건으로 써야 (…, modified_at, id) 인덱스를 탑니다. (a < x OR (a = x AND …)) 형태는 인덱스를 타지 못합니다.
+                "WHERE t.modified_at <= :cursorAt AND (t.modified_at < :cursorAt OR t.id < :cursorId)");
+        if (filter.getOwnerId() != null) {
+            sql.append(" AND t.user_id = :ownerId");
+        }
+        if (filter.getManagerId() != null) {
+            sql.append(" AND t.id IN (SELECT m.todo_id FROM managers m WHERE m.user_id = :managerId)");
+        }
+        if (filter.getWeather() != null) {
+            sql.append(" AND t.weather = :weather");
+        }
+        if (filter.getCreatedFrom() != null) {
+            sql.append(" AND t.created_at >= :createdFrom");
+        }
+        if (filter.getCreatedTo() != null) {
+            sql.append(" AND t.created_at < :createdTo");
+        }
+        if (filter.getModifiedFrom() != null) {
+            sql.append(" AND t.modified_at >= :modifiedFrom");
+        }
+        if (filter.getModifiedTo() != null) {
+            sql.append(" AND t.modified_at < :modifiedTo");
+        }
+        return sql.append(" ORDER BY t.modified_at DESC, t.id DESC LIMIT :size").toString();
+    }
+
+    MapSqlParameterSource bindParams(TodoFilter filter, LocalDateTime cursorAt, Long cursorId, int size) {
+        return new MapSqlParameterSource()
+                .addValue("cursorAt", cursorAt)
+                .addValue("cursorId", cursorId)
+                .addValue("ownerId", filter.getOwnerId())
+                .addValue("managerId", filter.getManagerId())
+                .addValue("weather", filter.getWeather())
+                .addValue("createdFrom", filter.getCreatedFrom())
+                .addValue("createdTo", filter.getCreatedTo())
+                .addValue("modifiedFrom", filter.getModifiedFrom())
+                .addValue("modifiedTo", filter.getModifiedTo())
+                .addValue("size", size);
+    }
+}
@@ -1,12 +1,18 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.todo.dto.TodoExportRow;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -19,5 +25,50 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
+    @Query("SELECT t FROM Todo t " +
+            "JOIN FETCH t.user " +
+            "WHERE t.id IN :todoIds")
+    List<Todo> findAllByIdInWithUser(@Param("todoIds") Collection<Long> todoIds);
+
     int countById(Long todoId);
+
+    // 댓글, 담당자 수는 읽지 않고 UPDATE 한 번으로 더해서, 동시에 등록돼도 값을 잃지 않습니다.
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") long todoId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount - 1 " +
+            "WHERE t.id = (SELECT c.todo.id FROM Comment c WHERE c.id = :commentId)")
+    int decrementCommentCountByCommentId(@Param("commentId") long commentId);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") long todoId, @Param("delta") int delta);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    // (fromId, toId] 범위에서 실제 개수와 다른 행만 고칩니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id > :fromId AND t.id <= :toId " +
+            "AND (t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "OR t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id))")
+    int reconcileCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 내보내기용. id 순으로 lastId 다음부터 DTO 로 읽으므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoExportRow(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u WHERE t.id > :lastId ORDER BY t.id")
+    List<TodoExportRow> findExportRowsAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    // 검색 재색인용. id 순으로 lastId 다음부터 읽습니다.
+    @Query("SELECT new org.example.expert.domain.search.dto.SearchDocument(" +
+            "org.example.expert.domain.search.enums.SearchType.TODO, t.id, t.id, t.title, t.contents) " +
+            "FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<SearchDocument> findSearchDocumentsAfter(@Param("lastId") long lastId, Pageable pageable);
 }
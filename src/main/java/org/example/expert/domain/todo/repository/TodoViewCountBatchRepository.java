@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+// 모아 둔 조회수를 JDBC 배치로 더합니다. 일정마다 한 행씩이라 같은 행을 두 번 잠그지 않습니다.
+@Repository
+@RequiredArgsConstructor
+public class TodoViewCountBatchRepository {
+
+    private static final String UPDATE_SQL = "UPDATE todos SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 묶음 전체가 한 트랜잭션이라, 실패하면 하나도 더해지지 않은 채로 다음 flush 에 다시 들어갑니다.
+    @Transactional
+    public void addViewCounts(List<Map.Entry<Long, Long>> deltas) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getValue());
+            ps.setLong(2, delta.getKey());
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * todos 의 comment_count, manager_count 를 실제 개수와 맞춥니다.
+ * 증감 쿼리를 거치지 않은 변경(직접 SQL, cascade 삭제 등)으로 생긴 차이를 고치며, 락을 오래 잡지 않도록 id 범위마다 따로 커밋합니다.
+ */
+@Slf4j(topic = "TodoCountReconcileService")
+@Service
+public class TodoCountReconcileService {
+
+    private final TodoRepository todoRepository;
+    private final int batchSize;
+
+    public TodoCountReconcileService(
+            TodoRepository todoRepository,
+            @Value("${todo.count-reconcile.batch-size:1000}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${todo.count-reconcile.cron:0 30 4 * * *}")
+    public int reconcile() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int fixed = 0;
+        for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+            fixed += todoRepository.reconcileCounts(fromId, Math.min(fromId + batchSize, maxId));
+        }
+        if (fixed > 0) {
+            log.warn("일정 댓글/담당자 수 {}건을 실제 개수로 고쳤습니다.", fixed);
+        }
+        return fixed;
+    }
+}
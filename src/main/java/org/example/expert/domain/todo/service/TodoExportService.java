@@ -0,0 +1,182 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoExportCommentRow;
+import org.example.expert.domain.todo.dto.TodoExportManagerRow;
+import org.example.expert.domain.todo.dto.TodoExportRow;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 전체 일정을 담당자, 댓글과 함께 내보냅니다.
+ * id 순으로 batch-size 개씩 읽고, 그 일정들의 담당자와 댓글을 IN 쿼리로 한 번씩 읽어서 바로 쓰므로 메모리는 batch 하나 만큼만 씁니다.
+ * 모두 DTO 로 읽기 때문에 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+ * 내보내기는 몇 시간이 걸릴 수 있어 트랜잭션 하나로 묶지 않고 쿼리마다 커넥션을 돌려줍니다.
+ * 그래서 한 시점의 스냅샷은 아니며, 내보내는 중에 바뀐 일정은 그 batch 를 읽은 시점의 값으로 나갑니다. (id 순으로 읽으므로 같은 일정이 두 번 나가지는 않습니다)
+ */
+@Service
+public class TodoExportService {
+
+    private static final String CSV_HEADER = "type,todo_id,id,user_id,user_email,title,contents,weather,created_at,modified_at";
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            ManagerRepository managerRepository,
+            CommentRepository commentRepository,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.batch-size:500}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.managerRepository = managerRepository;
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    // 내보낸 일정 수를 돌려줍니다.
+    public long export(TodoExportFormat format, Writer writer) throws IOException {
+        if (format == TodoExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        Pageable limit = PageRequest.of(0, batchSize);
+        long count = 0;
+        long lastId = 0;
+        List<TodoExportRow> todos;
+        do {
+            todos = todoRepository.findExportRowsAfter(lastId, limit);
+            if (todos.isEmpty()) {
+                break;
+            }
+            List<Long> todoIds = new ArrayList<>(todos.size());
+            for (TodoExportRow todo : todos) {
+                todoIds.add(todo.getId());
+            }
+            Map<Long, List<TodoExportManagerRow>> managers = groupByTodoId(managerRepository.findExportRowsByTodoIdIn(todoIds), TodoExportManagerRow::getTodoId);
+            Map<Long, List<TodoExportCommentRow>> comments = groupByTodoId(commentRepository.findExportRowsByTodoIdIn(todoIds), TodoExportCommentRow::getTodoId);
+
+            for (TodoExportRow todo : todos) {
+                List<TodoExportManagerRow> todoManagers = managers.getOrDefault(todo.getId(), List.of());
+                List<TodoExportCommentRow> todoComments = comments.getOrDefault(todo.getId(), List.of());
+                if (format == TodoExportFormat.CSV) {
+                    writeCsv(writer, todo, todoManagers, todoComments);
+                } else {
+                    writeNdjson(writer, todo, todoManagers, todoComments);
+                }
+            }
+            // 받는 쪽이 batch 마다 바로 받을 수 있도록 내보냅니다.
+            writer.flush();
+
+            count += todos.size();
+            lastId = todos.get(todos.size() - 1).getId();
+        } while (todos.size() == batchSize);
+        return count;
+    }
+
+    private void writeNdjson(Writer writer, TodoExportRow todo, List<TodoExportManagerRow> managers, List<TodoExportCommentRow> comments) throws IOException {
+        List<ManagerResponse> managerResponses = new ArrayList<>(managers.size());
+        for (TodoExportManagerRow manager : managers) {
+            managerResponses.add(new ManagerResponse(manager.getId(), new UserResponse(manager.getUserId(), manager.getUserEmail())));
+        }
+        List<CommentResponse> commentResponses = new ArrayList<>(comments.size());
+        for (TodoExportCommentRow comment : comments) {
+            commentResponses.add(new CommentResponse(comment.getId(), comment.getContents(), new UserResponse(comment.getUserId(), comment.getUserEmail())));
+        }
+
+        writer.write(objectMapper.writeValueAsString(new TodoExportResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(todo.getUserId(), todo.getUserEmail()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt(),
+                managerResponses,
+                commentResponses
+        )));
+        writer.write('\n');
+    }
+
+    // 일정 한 줄 뒤에 그 일정의 담당자, 댓글 줄이 이어집니다. (type : todo | manager | comment)
+    private void writeCsv(Writer writer, TodoExportRow todo, List<TodoExportManagerRow> managers, List<TodoExportCommentRow> comments) throws IOException {
+        writeCsvLine(writer, "todo", todo.getId(), todo.getId(), todo.getUserId(), todo.getUserEmail(),
+                todo.getTitle(), todo.getContents(), todo.getWeather(), todo.getCreatedAt(), todo.getModifiedAt());
+        for (TodoExportManagerRow manager : managers) {
+            writeCsvLine(writer, "manager", todo.getId(), manager.getId(), manager.getUserId(), manager.getUserEmail(),
+                    null, null, null, null, null);
+        }
+        for (TodoExportCommentRow comment : comments) {
+            writeCsvLine(writer, "comment", todo.getId(), comment.getId(), comment.getUserId(), comment.getUserEmail(),
+                    null, comment.getContents(), null, null, null);
+        }
+    }
+
+    private void writeCsvLine(Writer writer, String type, Long todoId, Long id, Long userId, String userEmail,
+                              String title, String contents, String weather, LocalDateTime createdAt, LocalDateTime modifiedAt) throws IOException {
+        writer.write(type);
+        writer.write(',');
+        writer.write(String.valueOf(todoId));
+        writer.write(',');
+        writer.write(String.valueOf(id));
+        writer.write(',');
+        writer.write(String.valueOf(userId));
+        writer.write(',');
+        writeCsvField(writer, userEmail);
+        writer.write(',');
+        writeCsvField(writer, title);
+        writer.write(',');
+        writeCsvField(writer, contents);
+        writer.write(',');
+        writeCsvField(writer, weather);
+        writer.write(',');
+        writeCsvField(writer, createdAt == null ? null : createdAt.toString());
+        writer.write(',');
+        writeCsvField(writer, modifiedAt == null ? null : modifiedAt.toString());
+        writer.write('\n');
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씁니다. (RFC 4180)
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static <T> Map<Long, List<T>> groupByTodoId(List<T> rows, Function<T, Long> todoId) {
+        Map<Long, List<T>> grouped = new HashMap<>();
+        for (T row : rows) {
+            grouped.computeIfAbsent(todoId.apply(row), id -> new ArrayList<>()).add(row);
+        }
+        return grouped;
+    }
+}
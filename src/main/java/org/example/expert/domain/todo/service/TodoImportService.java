@@ -0,0 +1,224 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.search.service.SearchReindexService;
+import org.example.expert.domain.todo.dto.request.TodoImportRequest;
+import org.example.expert.domain.todo.dto.response.TodoImportError;
+import org.example.expert.domain.todo.dto.response.TodoImportProgress;
+import org.example.expert.domain.todo.repository.TodoBatchRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 기존 일정 데이터 대량 가져오기.
+ * NDJSON 업로드를 batch-size 줄씩 읽어 검증 → 작성자 확인(IN 쿼리 한 번) → 날씨 채우기 → JDBC 배치 INSERT 순으로 처리하고,
+ * 묶음마다 누적 건수와 실패한 줄을 sink 로 넘깁니다. 메모리에는 한 묶음만 올라갑니다.
+ * 날씨가 없는 줄은 WeatherClient 의 하루 단위 캐시 값을 쓰므로, 줄마다 외부 API 를 부르지 않습니다.
+ * 저장한 묶음마다 그 id 범위만 검색 색인에 넣습니다. (색인 큐에는 묶음당 작업 하나만 들어갑니다)
+ */
+@Slf4j(topic = "TodoImportService")
+@Service
+public class TodoImportService {
+
+    private final TodoBatchRepository todoBatchRepository;
+    private final UserRepository userRepository;
+    private final WeatherClient weatherClient;
+    private final SearchReindexService searchReindexService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public TodoImportService(
+            TodoBatchRepository todoBatchRepository,
+            UserRepository userRepository,
+            WeatherClient weatherClient,
+            SearchReindexService searchReindexService,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${todo.import.batch-size:1000}") int batchSize
+    ) {
+        this.todoBatchRepository = todoBatchRepository;
+        this.userRepository = userRepository;
+        this.weatherClient = weatherClient;
+        this.searchReindexService = searchReindexService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    // 마지막 묶음의 진행 상황(전체 결과)을 돌려줍니다.
+    public TodoImportProgress importTodos(BufferedReader reader, Consumer<TodoImportProgress> sink) throws IOException {
+        ImportState state = new ImportState();
+        TodoImportProgress progress = null;
+        List<ImportRow> rows = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            rows.add(parse(lineNumber, line));
+            if (rows.size() == batchSize) {
+                progress = importChunk(rows, state);
+                sink.accept(progress);
+                rows = new ArrayList<>(batchSize);
+            }
+        }
+        if (!rows.isEmpty() || progress == null) {
+            progress = importChunk(rows, state);
+            sink.accept(progress);
+        }
+        return progress;
+    }
+
+    private TodoImportProgress importChunk(List<ImportRow> rows, ImportState state) {
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (row.error == null) {
+                candidates.add(row);
+            }
+        }
+
+        checkOwners(candidates, state);
+        fillWeather(candidates);
+        if (!candidates.isEmpty()) {
+            List<Long> createdIds = save(candidates);
+            if (!createdIds.isEmpty()) {
+                searchReindexService.reindexTodos(Collections.min(createdIds), Collections.max(createdIds));
+            }
+        }
+
+        List<TodoImportError> errors = new ArrayList<>();
+        for (ImportRow row : rows) {
+            if (row.error != null) {
+                errors.add(new TodoImportError(row.line, row.error));
+            } else {
+                state.created++;
+            }
+        }
+        state.processed += rows.size();
+        state.failed += errors.size();
+        return new TodoImportProgress(state.processed, state.created, state.failed, errors);
+    }
+
+    // 처음 보는 작성자 id 만 모아서 한 번의 쿼리로 확인하고, 결과는 가져오기가 끝날 때까지 기억합니다.
+    private void checkOwners(List<ImportRow> candidates, ImportState state) {
+        Set<Long> unknownIds = new HashSet<>();
+        for (ImportRow row : candidates) {
+            Long ownerId = row.request.getOwnerId();
+            if (!state.existingOwnerIds.contains(ownerId) && !state.missingOwnerIds.contains(ownerId)) {
+                unknownIds.add(ownerId);
+            }
+        }
+        if (!unknownIds.isEmpty()) {
+            List<Long> existingIds = userRepository.findExistingIds(unknownIds);
+            state.existingOwnerIds.addAll(existingIds);
+            existingIds.forEach(unknownIds::remove);
+            state.missingOwnerIds.addAll(unknownIds);
+        }
+
+        candidates.removeIf(row -> {
+            if (state.missingOwnerIds.contains(row.request.getOwnerId())) {
+                row.error = "존재하지 않는 작성자입니다.";
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void fillWeather(List<ImportRow> candidates) {
+        String todayWeather = null;
+        Iterator<ImportRow> iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+            ImportRow row = iterator.next();
+            if (row.request.getWeather() != null && !row.request.getWeather().isBlank()) {
+                continue;
+            }
+            if (todayWeather == null) {
+                try {
+                    todayWeather = weatherClient.getTodayWeather();
+                } catch (RuntimeException e) {
+                    // ServerException 뿐 아니라 연결 실패(RestClientException) 등도 가져오기 전체를 멈추지 않게 합니다.
+                    log.warn("날씨를 가져오지 못해 날씨가 없는 줄을 건너뜁니다.", e);
+                    todayWeather = "";
+                }
+            }
+            if (todayWeather.isEmpty()) {
+                row.error = "날씨 데이터를 가져오지 못했습니다.";
+                iterator.remove();
+                continue;
+            }
+            row.request = new TodoImportRequest(row.request.getTitle(), row.request.getContents(), todayWeather, row.request.getOwnerId());
+        }
+    }
+
+    // 저장된 일정 id 를 돌려줍니다.
+    private List<Long> save(List<ImportRow> rows) {
+        List<TodoImportRequest> todos = rows.stream().map(row -> row.request).toList();
+        try {
+            return todoBatchRepository.saveAll(todos);
+        } catch (DataIntegrityViolationException e) {
+            // 배치 전체가 롤백되므로, 한 건씩 다시 저장해서 어느 줄인지 찾습니다. (확인 이후 작성자가 탈퇴한 경우, 길이 초과 등)
+            List<Long> createdIds = new ArrayList<>(rows.size());
+            for (ImportRow row : rows) {
+                try {
+                    createdIds.addAll(todoBatchRepository.saveAll(List.of(row.request)));
+                } catch (DataIntegrityViolationException rowFailure) {
+                    row.error = "저장할 수 없는 값입니다.";
+                }
+            }
+            return createdIds;
+        }
+    }
+
+    private ImportRow parse(long lineNumber, String line) {
+        ImportRow row = new ImportRow(lineNumber);
+        try {
+            row.request = objectMapper.readValue(line, TodoImportRequest.class);
+        } catch (JsonProcessingException e) {
+            row.request = null;
+        }
+        if (row.request == null) {
+            row.error = "형식이 올바르지 않습니다.";
+            return row;
+        }
+
+        Set<ConstraintViolation<TodoImportRequest>> violations = validator.validate(row.request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<TodoImportRequest> violation = violations.iterator().next();
+            row.error = violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        return row;
+    }
+
+    private static class ImportRow {
+        private final long line;
+        private TodoImportRequest request;
+        private String error;
+
+        private ImportRow(long line) {
+            this.line = line;
+        }
+    }
+
+    private static class ImportState {
+        private final Set<Long> existingOwnerIds = new HashSet<>();
+        private final Set<Long> missingOwnerIds = new HashSet<>();
+        private long processed;
+        private long created;
+        private long failed;
+    }
+}
@@ -4,26 +4,43 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.search.event.SearchIndexEvent;
+import org.example.expert.domain.todo.dto.TodoFilter;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoQueryRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.*;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final LocalDateTime MAX_CURSOR_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final TodoRepository todoRepository;
+    private final TodoQueryRepository todoQueryRepository;
+    private final TodoViewCounter todoViewCounter;
     private final WeatherClient weatherClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -38,6 +55,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        eventPublisher.publishEvent(SearchIndexEvent.indexed(SearchDocument.todo(savedTodo.getId(), savedTodo.getTitle(), savedTodo.getContents())));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -60,13 +78,71 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
+                todo.getViewCount()
         ));
     }
 
+    public TodoPageResponse getTodos(TodoFilter filter, LocalDateTime cursorAt, Long cursorId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        LocalDateTime at = cursorAt == null ? MAX_CURSOR_AT : cursorAt;
+        Long id = cursorId == null ? Long.MAX_VALUE : cursorId;
+
+        List<TodoResponse> todos = todoQueryRepository.findPage(filter, at, id, size);
+
+        if (todos.size() < size) {
+            return new TodoPageResponse(todos, null, null);
+        }
+        TodoResponse last = todos.get(todos.size() - 1);
+        return new TodoPageResponse(todos, last.getModifiedAt(), last.getId());
+    }
+
+    // 요청한 순서대로 돌려주고, 없는 id 는 missingIds 로 알려줍니다. 대시보드용 일괄 조회라 조회수는 세지 않습니다.
+    public TodoBatchResponse getTodos(List<Long> todoIds) {
+        Set<Long> ids = new LinkedHashSet<>(todoIds);
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("ids 는 1개 이상 " + MAX_BATCH_SIZE + "개 이하여야 합니다.");
+        }
+
+        Map<Long, Todo> todoMap = new HashMap<>();
+        for (Todo todo : todoRepository.findAllByIdInWithUser(ids)) {
+            todoMap.put(todo.getId(), todo);
+        }
+
+        List<TodoResponse> todos = new ArrayList<>(todoMap.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            Todo todo = todoMap.get(id);
+            if (todo == null) {
+                missingIds.add(id);
+                continue;
+            }
+            User user = todo.getUser();
+            todos.add(new TodoResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    new UserResponse(user.getId(), user.getEmail()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt(),
+                    todo.getCommentCount(),
+                    todo.getManagerCount(),
+                    todo.getViewCount()
+            ));
+        }
+        return new TodoBatchResponse(todos, missingIds);
+    }
+
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        todoViewCounter.increment(todoId);
 
         User user = todo.getUser();
 
@@ -77,7 +153,10 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
+                todo.getViewCount()
         );
     }
 }
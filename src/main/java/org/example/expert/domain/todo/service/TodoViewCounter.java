@@ -0,0 +1,136 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoViewMetricsResponse;
+import org.example.expert.domain.todo.repository.TodoViewCountBatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일정 조회수.
+ * 조회마다 행을 잠그지 않도록 일정별 LongAdder(스레드마다 다른 셀에 더해지는 striped 카운터)에 모았다가,
+ * flush-interval 마다 "view_count = view_count + ?" 배치 UPDATE 로 한 번에 더합니다.
+ * 서버가 죽으면 마지막 flush 이후의 조회수는 잃어버리며, 이는 감수합니다.
+ */
+@Slf4j(topic = "TodoViewCounter")
+@Component
+public class TodoViewCounter {
+
+    private final TodoViewCountBatchRepository todoViewCountBatchRepository;
+    private final int maxBatchSize;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 아직 반영되지 않은 조회 중 가장 오래된 것의 시각 (없으면 0)
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+
+    private volatile long lastFlushLagMillis;
+    private volatile int lastBatchSize;
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder flushedViews = new LongAdder();
+    private final LongAdder failedFlushCount = new LongAdder();
+
+    public TodoViewCounter(
+            TodoViewCountBatchRepository todoViewCountBatchRepository,
+            @Value("${todo.view.max-batch-size:500}") int maxBatchSize
+    ) {
+        this.todoViewCountBatchRepository = todoViewCountBatchRepository;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void increment(long todoId) {
+        add(todoId, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.view.flush-interval-ms:1000}")
+    public synchronized int flush() {
+        long pendingSince = oldestPendingAt.getAndSet(0);
+        if (pendingSince == 0) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), delta));
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // 지우는 사이에 더해진 조회가 있으면 새 카운터로 옮깁니다.
+                long late = entry.getValue().sumThenReset();
+                if (late > 0) {
+                    add(entry.getKey(), late);
+                }
+            }
+        }
+
+        int flushed = 0;
+        for (int from = 0; from < deltas.size(); from += maxBatchSize) {
+            List<Map.Entry<Long, Long>> batch = deltas.subList(from, Math.min(from + maxBatchSize, deltas.size()));
+            try {
+                todoViewCountBatchRepository.addViewCounts(batch);
+            } catch (RuntimeException e) {
+                // 다음 flush 에서 다시 더하도록 돌려놓습니다.
+                failedFlushCount.increment();
+                log.warn("조회수 {}건 반영에 실패해 다음 flush 로 미룹니다.", batch.size(), e);
+                for (Map.Entry<Long, Long> delta : batch) {
+                    add(delta.getKey(), delta.getValue());
+                }
+                continue;
+            }
+            flushed += batch.size();
+            for (Map.Entry<Long, Long> delta : batch) {
+                flushedViews.add(delta.getValue());
+            }
+        }
+
+        flushCount.increment();
+        flushedRows.add(flushed);
+        lastBatchSize = flushed;
+        lastFlushLagMillis = System.currentTimeMillis() - pendingSince;
+        return flushed;
+    }
+
+    // 정상 종료 시에는 남은 조회수를 반영합니다.
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public TodoViewMetricsResponse getMetrics() {
+        return new TodoViewMetricsResponse(
+                pending.size(),
+                lastFlushLagMillis,
+                lastBatchSize,
+                flushCount.sum(),
+                flushedRows.sum(),
+                flushedViews.sum(),
+                failedFlushCount.sum()
+        );
+    }
+
+    private void add(long todoId, long views) {
+        LongAdder adder = pending.computeIfAbsent(todoId, id -> new LongAdder());
+        adder.add(views);
+        // 더하기 직전에 flush 가 이 카운터를 지웠다면, 지운 뒤 남은 몫을 새 카운터로 옮깁니다.
+        // flush 도 지운 뒤 한 번 더 비우므로, 어느 쪽이 먼저든 조회가 빠지거나 두 번 더해지지 않습니다.
+        if (pending.get(todoId) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved > 0) {
+                add(todoId, moved);
+            }
+        }
+        if (oldestPendingAt.get() == 0) {
+            oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+        }
+    }
+}
@@ -1,21 +1,57 @@
 package org.example.expert.domain.user.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserImportResult;
+import org.example.expert.domain.user.enums.UserImportFormat;
 import org.example.expert.domain.user.service.UserAdminService;
-import org.springframework.web.bind.annotation.PatchMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RestController;
+import org.example.expert.domain.user.service.UserImportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
 
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    // 한 줄에 한 명씩 NDJSON 또는 CSV 로 받고, 처리한 묶음마다 줄별 결과를 NDJSON 으로 바로 내려보냅니다.
+    @PostMapping(value = "/admin/users/import", consumes = {UserImportFormat.NDJSON_VALUE, UserImportFormat.CSV_VALUE})
+    public void importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        UserImportFormat format = UserImportFormat.of(contentType);
+        response.setContentType(UserImportFormat.NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter writer = response.getWriter();
+
+        userImportService.importUsers(request.getReader(), format, results -> {
+            try {
+                for (UserImportResult result : results) {
+                    writer.write(objectMapper.writeValueAsString(result));
+                    writer.write('\n');
+                }
+                response.flushBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
 }
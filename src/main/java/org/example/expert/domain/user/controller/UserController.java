@@ -24,4 +24,9 @@ public class UserController {
     public void changePassword(@Auth AuthUser authUser, @RequestBody UserChangePasswordRequest userChangePasswordRequest) {
         userService.changePassword(authUser.getId(), userChangePasswordRequest);
     }
+
+    @PostMapping("/users/logout")
+    public void logout(@Auth AuthUser authUser) {
+        userService.logout(authUser.getId());
+    }
 }
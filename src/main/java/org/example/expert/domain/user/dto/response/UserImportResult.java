@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserImportStatus;
+
+@Getter
+public class UserImportResult {
+
+    private final long line;
+    private final String email;
+    private final UserImportStatus status;
+    private final Long userId;
+    private final String message;
+
+    public UserImportResult(long line, String email, UserImportStatus status, Long userId, String message) {
+        this.line = line;
+        this.email = email;
+        this.status = status;
+        this.userId = userId;
+        this.message = message;
+    }
+}
@@ -3,10 +3,13 @@ package org.example.expert.domain.user.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
 
+import java.util.Locale;
+
 @Getter
 @Entity
 @NoArgsConstructor
@@ -20,9 +23,12 @@ public class User extends Timestamped {
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    // 비밀번호, 권한이 바뀌면 증가하며 이전 값으로 발급된 토큰은 사용할 수 없습니다.
+    @ColumnDefault("0")
+    private int tokenVersion;
 
     public User(String email, String password, UserRole userRole) {
-        this.email = email;
+        this.email = normalizeEmail(email);
         this.password = password;
         this.userRole = userRole;
     }
@@ -33,15 +39,22 @@ public class User extends Timestamped {
         this.userRole = userRole;
     }
 
+    // 이메일은 소문자로 저장하고 조회합니다. users.email unique 제약이 대소문자만 다른 이메일도 막도록 합니다.
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+
     public static User fromAuthUser(AuthUser authUser) {
         return new User(authUser.getId(), authUser.getEmail(), authUser.getUserRole());
     }
 
     public void changePassword(String password) {
         this.password = password;
+        this.tokenVersion++;
     }
 
     public void updateRole(UserRole userRole) {
         this.userRole = userRole;
+        this.tokenVersion++;
     }
 }
@@ -0,0 +1,24 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+public enum UserImportFormat {
+    NDJSON, CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    public static UserImportFormat of(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+                return NDJSON;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+                return CSV;
+            }
+        }
+        throw new InvalidRequestException("지원하지 않는 형식입니다.");
+    }
+}
@@ -2,15 +2,36 @@ package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public enum UserRole {
     ADMIN, USER;
 
+    private static final UserRole[] VALUES = values();
+    // "ADMIN", "admin" 처럼 자주 쓰이는 표기는 바로 찾고, 그 외 대소문자 조합만 순회합니다.
+    private static final Map<String, UserRole> BY_NAME = new HashMap<>();
+
+    static {
+        for (UserRole role : VALUES) {
+            BY_NAME.put(role.name(), role);
+            BY_NAME.put(role.name().toLowerCase(Locale.ROOT), role);
+        }
+    }
+
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        if (role != null) {
+            UserRole userRole = BY_NAME.get(role);
+            if (userRole != null) {
+                return userRole;
+            }
+            for (UserRole value : VALUES) {
+                if (value.name().equalsIgnoreCase(role)) {
+                    return value;
+                }
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UerRole");
     }
 }
@@ -0,0 +1,74 @@
+package org.example.expert.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 대량 가입은 IDENTITY 전략 때문에 JPA 로 배치 INSERT 가 되지 않으므로 JDBC 배치로 저장하고, 생성된 id 를 순서대로 돌려줍니다.
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO users " +
+            "(email, password, user_role, token_version, created_at, modified_at) " +
+            "VALUES (?, ?, ?, 0, ?, ?)";
+    private static final String[] KEY_COLUMNS = {"id"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 하나라도 실패하면 전부 롤백되므로, 호출하는 쪽에서 한 건씩 다시 저장할 수 있습니다.
+    @Transactional
+    public List<Long> saveAll(List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, KEY_COLUMNS), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bind(ps, users.get(i), now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return users.size();
+            }
+        }, keyHolder);
+
+        List<Long> ids = new ArrayList<>(users.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    public Long save(User user) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL, KEY_COLUMNS);
+            bind(ps, user, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private static void bind(PreparedStatement ps, User user, Timestamp now) throws SQLException {
+        ps.setString(1, user.getEmail());
+        ps.setString(2, user.getPassword());
+        ps.setString(3, user.getUserRole().name());
+        ps.setTimestamp(4, now);
+        ps.setTimestamp(5, now);
+    }
+}
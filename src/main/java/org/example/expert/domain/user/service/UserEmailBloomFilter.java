@@ -0,0 +1,57 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일 Bloom filter.
+ * mightExist 가 false 면 중복 확인 쿼리 없이 바로 INSERT 하고, 중복 여부는 users.email unique 제약으로 최종 판단한다.
+ * 다른 인스턴스에서 가입한 이메일이 빠져 있어도 unique 제약에서 걸러지므로 정합성에는 영향이 없다.
+ */
+@Slf4j(topic = "UserEmailBloomFilter")
+@Component
+public class UserEmailBloomFilter {
+
+    private final UserRepository userRepository;
+    private final BloomFilter bloomFilter;
+
+    public UserEmailBloomFilter(
+            UserRepository userRepository,
+            @Value("${user.email-bloom-filter.expected-size:1000000}") long expectedSize
+    ) {
+        this.userRepository = userRepository;
+        this.bloomFilter = new BloomFilter(expectedSize, 0.01);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long count = 0;
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            Iterator<String> iterator = emails.iterator();
+            while (iterator.hasNext()) {
+                add(iterator.next());
+                count++;
+            }
+        }
+        log.info("이메일 Bloom filter 초기화 ({}건)", count);
+    }
+
+    public boolean mightExist(String email) {
+        return bloomFilter.mightContain(email.toLowerCase(Locale.ROOT));
+    }
+
+    public void add(String email) {
+        bloomFilter.put(email.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,282 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserImportResult;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserImportStatus;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserBatchRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * 조직 단위 대량 가입.
+ * 업로드를 batch-size 줄씩 읽어 검증 → 중복 확인(IN 쿼리 한 번) → 코어 수만큼의 ForkJoinPool 로 BCrypt 해싱 → JDBC 배치 INSERT 순으로 처리하고,
+ * 줄별 결과를 묶음마다 sink 로 넘깁니다. 메모리에는 한 묶음만 올라갑니다.
+ */
+@Slf4j(topic = "UserImportService")
+@Service
+public class UserImportService {
+
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserEmailBloomFilter userEmailBloomFilter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final ForkJoinPool hashPool;
+
+    public UserImportService(
+            UserRepository userRepository,
+            UserBatchRepository userBatchRepository,
+            PasswordEncoder passwordEncoder,
+            UserEmailBloomFilter userEmailBloomFilter,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${user.import.batch-size:500}") int batchSize
+    ) {
+        this.userRepository = userRepository;
+        this.userBatchRepository = userBatchRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userEmailBloomFilter = userEmailBloomFilter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.hashPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdown();
+    }
+
+    public void importUsers(BufferedReader reader, UserImportFormat format, Consumer<List<UserImportResult>> sink) throws IOException {
+        List<ImportRow> rows = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && format == UserImportFormat.CSV && isCsvHeader(line))) {
+                continue;
+            }
+            rows.add(parse(lineNumber, line, format));
+            if (rows.size() == batchSize) {
+                sink.accept(importChunk(rows));
+                rows = new ArrayList<>(batchSize);
+            }
+        }
+        if (!rows.isEmpty()) {
+            sink.accept(importChunk(rows));
+        }
+    }
+
+    // 앞 묶음에서 저장한 이메일은 Bloom filter 에 들어가 있으므로 아래 IN 쿼리에서 걸러지고, 묶음 안의 중복만 따로 확인합니다.
+    private List<UserImportResult> importChunk(List<ImportRow> rows) {
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (row.status != null) {
+                continue;
+            }
+            if (!seenEmails.add(row.emailKey())) {
+                row.fail(UserImportStatus.DUPLICATE, "파일 안에 중복된 이메일입니다.");
+                continue;
+            }
+            candidates.add(row);
+        }
+
+        // Bloom filter 에 있는 이메일만 모아서 한 번의 쿼리로 확인합니다. 이메일은 소문자로 저장되므로 소문자로 비교합니다.
+        List<String> suspects = candidates.stream()
+                .map(ImportRow::emailKey)
+                .filter(userEmailBloomFilter::mightExist)
+                .toList();
+        if (!suspects.isEmpty()) {
+            Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(suspects));
+            candidates.removeIf(row -> {
+                if (existingEmails.contains(row.emailKey())) {
+                    row.fail(UserImportStatus.DUPLICATE, "이미 존재하는 이메일입니다.");
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        if (!candidates.isEmpty()) {
+            hashPool.invoke(new PasswordHashTask(candidates, 0, candidates.size()));
+            save(candidates);
+        }
+
+        List<UserImportResult> results = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            results.add(new UserImportResult(row.line, row.request == null ? null : row.request.getEmail(), row.status, row.userId, row.message));
+        }
+        return results;
+    }
+
+    private void save(List<ImportRow> rows) {
+        List<User> users = rows.stream().map(ImportRow::toUser).toList();
+        try {
+            List<Long> ids = userBatchRepository.saveAll(users);
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).created(ids.get(i));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청이 같은 이메일로 가입했다면 배치 전체가 롤백되므로, 한 건씩 다시 저장해서 어느 줄인지 찾습니다.
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    rows.get(i).created(userBatchRepository.save(users.get(i)));
+                } catch (DataIntegrityViolationException duplicate) {
+                    rows.get(i).fail(UserImportStatus.DUPLICATE, "이미 존재하는 이메일입니다.");
+                }
+            }
+        }
+        for (ImportRow row : rows) {
+            if (row.status == UserImportStatus.CREATED) {
+                userEmailBloomFilter.add(row.request.getEmail());
+            }
+        }
+    }
+
+    private ImportRow parse(long lineNumber, String line, UserImportFormat format) {
+        ImportRow row = new ImportRow(lineNumber);
+        try {
+            row.request = format == UserImportFormat.CSV ? parseCsv(line) : objectMapper.readValue(line, SignupRequest.class);
+        } catch (JsonProcessingException | InvalidRequestException e) {
+            row.request = null;
+        }
+        if (row.request == null) {
+            row.fail(UserImportStatus.INVALID, "형식이 올바르지 않습니다.");
+            return row;
+        }
+
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(row.request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<SignupRequest> violation = violations.iterator().next();
+            row.fail(UserImportStatus.INVALID, violation.getPropertyPath() + ": " + violation.getMessage());
+            return row;
+        }
+
+        try {
+            row.userRole = UserRole.of(row.request.getUserRole());
+        } catch (InvalidRequestException e) {
+            row.fail(UserImportStatus.INVALID, e.getMessage());
+        }
+        return row;
+    }
+
+    private static boolean isCsvHeader(String line) {
+        return line.regionMatches(true, 0, "email,", 0, 6);
+    }
+
+    // email,password,userRole 순서이고, 쉼표나 따옴표가 들어간 값은 큰따옴표로 감쌀 수 있습니다.
+    private static SignupRequest parseCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        if (quoted || fields.size() != 3) {
+            throw new InvalidRequestException("형식이 올바르지 않습니다.");
+        }
+        return new SignupRequest(fields.get(0).trim(), fields.get(1), fields.get(2).trim());
+    }
+
+    private static class ImportRow {
+        private final long line;
+        private SignupRequest request;
+        private UserRole userRole;
+        private String encodedPassword;
+        private UserImportStatus status;
+        private Long userId;
+        private String message;
+
+        private ImportRow(long line) {
+            this.line = line;
+        }
+
+        private String emailKey() {
+            return User.normalizeEmail(request.getEmail());
+        }
+
+        private User toUser() {
+            return new User(request.getEmail(), encodedPassword, userRole);
+        }
+
+        private void created(Long userId) {
+            this.status = UserImportStatus.CREATED;
+            this.userId = userId;
+        }
+
+        private void fail(UserImportStatus status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+    }
+
+    // 묶음을 반으로 나눠가며 해싱을 코어들에 나눠 줍니다.
+    private class PasswordHashTask extends RecursiveAction {
+        private static final int THRESHOLD = 8;
+
+        private final List<ImportRow> rows;
+        private final int from;
+        private final int to;
+
+        private PasswordHashTask(List<ImportRow> rows, int from, int to) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    ImportRow row = rows.get(i);
+                    row.encodedPassword = passwordEncoder.encode(row.request.getPassword());
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PasswordHashTask(rows, from, mid), new PasswordHashTask(rows, mid, to));
+        }
+    }
+}
@@ -2,12 +2,16 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.RefreshTokenService;
+import org.example.expert.domain.auth.service.TokenEpochService;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -17,13 +21,17 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenEpochService tokenEpochService;
+    private final RefreshTokenService refreshTokenService;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    // BCrypt 해싱(최대 3번) 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 조회와 변경만 각각 짧게 커넥션을 사용합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateUserChangePasswordRequest(userChangePasswordRequest);
 
@@ -38,7 +46,21 @@ public class UserService {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
+
+        // 검증한 비밀번호가 그 사이에 바뀌었다면 변경하지 않습니다.
+        if (userRepository.updatePassword(userId, user.getPassword(), encodedPassword) == 0) {
+            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+        }
+        // 기존 비밀번호로 발급된 토큰은 더 이상 사용할 수 없습니다. (User.tokenVersion 증가)
+        tokenEpochService.invalidate(userId);
+        refreshTokenService.revokeAll(userId);
+    }
+
+    @Transactional
+    public void logout(long userId) {
+        tokenRevocationService.revokeAll(userId);
+        refreshTokenService.revokeAll(userId);
     }
 
     private static void validateUserChangePasswordRequest(UserChangePasswordRequest userChangePasswordRequest) throws InvalidRequestException {
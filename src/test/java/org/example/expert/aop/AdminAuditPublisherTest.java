@@ -0,0 +1,107 @@
+package org.example.expert.aop;
+
+import org.example.expert.domain.audit.repository.AdminAuditLogBatchRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminAuditPublisherTest {
+
+    @Mock
+    private AdminAuditLogBatchRepository adminAuditLogBatchRepository;
+
+    @Test
+    public void 이벤트를_배치로_모아서_저장한다() throws InterruptedException {
+        // given
+        AdminAuditPublisher publisher = new AdminAuditPublisher(adminAuditLogBatchRepository, 100, 5, 5_000, 0, 3, 1);
+        List<Integer> savedSizes = recordSavedSizes();
+
+        // when
+        publisher.start();
+        publishEvents(publisher, 5);
+
+        // then
+        verify(adminAuditLogBatchRepository, timeout(1_000).times(1)).saveAll(anyList());
+        publisher.stop();
+        assertEquals(List.of(5), savedSizes);
+    }
+
+    @Test
+    public void 저장에_실패한_배치는_다시_시도한다() throws InterruptedException {
+        // given
+        AdminAuditPublisher publisher = new AdminAuditPublisher(adminAuditLogBatchRepository, 100, 5, 5_000, 0, 3, 1);
+        List<Integer> savedSizes = new CopyOnWriteArrayList<>();
+        doThrow(new IllegalStateException("DB 오류"))
+                .doAnswer(invocation -> {
+                    savedSizes.add(invocation.getArgument(0, List.class).size());
+                    return null;
+                })
+                .when(adminAuditLogBatchRepository).saveAll(anyList());
+
+        // when
+        publisher.start();
+        publishEvents(publisher, 5);
+
+        // then
+        verify(adminAuditLogBatchRepository, timeout(1_000).times(2)).saveAll(anyList());
+        publisher.stop();
+        assertEquals(List.of(5), savedSizes);
+        assertEquals(0, publisher.getFailedCount());
+    }
+
+    @Test
+    public void 재시도_끝에도_실패하면_버린_이벤트와_따로_센다() throws InterruptedException {
+        // given
+        AdminAuditPublisher publisher = new AdminAuditPublisher(adminAuditLogBatchRepository, 100, 5, 1_000, 0, 1, 1);
+        doThrow(new IllegalStateException("DB 오류")).when(adminAuditLogBatchRepository).saveAll(anyList());
+
+        // when
+        publisher.start();
+        publishEvents(publisher, 5);
+
+        // then
+        verify(adminAuditLogBatchRepository, timeout(1_000).atLeast(2)).saveAll(anyList());
+        publisher.stop();
+        assertEquals(5, publisher.getFailedCount());
+        assertEquals(0, publisher.getDroppedCount());
+    }
+
+    @Test
+    public void 큐가_가득_차면_이벤트를_버린다() {
+        // given
+        AdminAuditPublisher publisher = new AdminAuditPublisher(adminAuditLogBatchRepository, 1, 5, 1_000, 0, 3, 1);
+        AdminAuditEvent event = new AdminAuditEvent(1L, "DELETE", "/admin/comments/1", "handler", 0L, 0L, true);
+
+        // when
+        publisher.publish(event);
+        publisher.publish(event);
+
+        // then
+        assertEquals(1, publisher.getDroppedCount());
+        verifyNoInteractions(adminAuditLogBatchRepository);
+    }
+
+    // 워커가 배치 리스트를 재사용하므로 호출 시점의 크기를 기록해 두고, 검증은 테스트 스레드에서 합니다.
+    private List<Integer> recordSavedSizes() {
+        List<Integer> savedSizes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            savedSizes.add(invocation.getArgument(0, List.class).size());
+            return null;
+        }).when(adminAuditLogBatchRepository).saveAll(anyList());
+        return savedSizes;
+    }
+
+    private static void publishEvents(AdminAuditPublisher publisher, int count) {
+        for (int i = 0; i < count; i++) {
+            publisher.publish(new AdminAuditEvent(1L, "DELETE", "/admin/comments/" + i, "handler", 0L, 0L, true));
+        }
+    }
+}
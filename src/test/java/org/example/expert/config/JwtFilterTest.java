@@ -0,0 +1,155 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.auth.service.ApiKeyService;
+import org.example.expert.domain.auth.service.TokenEpochService;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtFilterTest {
+
+    private static final String SECRET = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+    private static final Key OTHER_KEY = Keys.hmacShaKeyFor("another-signing-secret-0123456789abcdef".getBytes());
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    @Mock
+    private TokenEpochService tokenEpochService;
+    @Mock
+    private SecurityEventLogger securityEventLogger;
+    @Mock
+    private ApiKeyService apiKeyService;
+    @Mock
+    private FilterChain chain;
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        jwtUtil.init();
+        jwtFilter = new JwtFilter(jwtUtil, tokenRevocationService, tokenEpochService, securityEventLogger,
+                FilterConfig.routePolicyMatcher(), apiKeyService);
+    }
+
+    @Test
+    void 컨트롤러에서_난_예외는_토큰_오류로_기록하지_않고_전파한다() throws Exception {
+        // given
+        given(tokenEpochService.isCurrent(anyLong(), anyInt())).willReturn(true);
+        MockHttpServletRequest request = request("GET", "/todos/1", UserRole.USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        doThrow(new IllegalStateException("todo 조회 실패")).when(chain).doFilter(any(), any());
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> jwtFilter.doFilter(request, response, chain));
+
+        // then
+        assertEquals("todo 조회 실패", exception.getMessage());
+        verifyNoInteractions(securityEventLogger);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/admin/users/1", "/admin;x/users/1", "/%61dmin/users/1", "/admin/users/1/", "/admin/users;x=1/1"})
+    void 일반_유저는_변형된_admin_경로에도_403_을_받는다(String uri) throws Exception {
+        // given
+        given(tokenEpochService.isCurrent(anyLong(), anyInt())).willReturn(true);
+        MockHttpServletRequest request = request("PATCH", uri, UserRole.USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(403, response.getStatus());
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_401_을_반환한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        request.addHeader("Authorization", "Bearer not-a-jwt");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        verify(securityEventLogger, times(1)).record(eq(JwtFailureType.INVALID_SIGNATURE), eq(request), any());
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰은_401_INVALID_SIGNATURE_를_반환한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        request.addHeader("Authorization", "Bearer " + signedToken("default", OTHER_KEY));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        verify(securityEventLogger, times(1)).record(eq(JwtFailureType.INVALID_SIGNATURE), eq(request), any());
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void 폐기된_kid_의_토큰은_401_INVALID_SIGNATURE_를_반환한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        request.addHeader("Authorization", "Bearer " + signedToken("retired", Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET))));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        verify(securityEventLogger, times(1)).record(eq(JwtFailureType.INVALID_SIGNATURE), eq(request), any());
+        verifyNoInteractions(chain);
+    }
+
+    private static String signedToken(String kid, Key key) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, kid)
+                .setSubject("1")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private MockHttpServletRequest request(String method, String uri, UserRole userRole) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("Authorization", jwtUtil.createToken(1L, "user@gmail.com", userRole, 0));
+        return request;
+    }
+}
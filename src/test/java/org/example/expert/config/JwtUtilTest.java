@@ -0,0 +1,136 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String LEGACY_SECRET = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+    private static final String SECRET_1 = Base64.getEncoder().encodeToString("first-rotation-secret-0123456789abcdef".getBytes());
+    private static final String SECRET_2 = Base64.getEncoder().encodeToString("second-rotation-secret-0123456789abcdef".getBytes());
+
+    @TempDir
+    private Path tempDir;
+
+    private Path keysFile;
+    private final JwtUtil jwtUtil = new JwtUtil();
+
+    @BeforeEach
+    void setUp() {
+        keysFile = tempDir.resolve("jwt-keys.properties");
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", LEGACY_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "keysFile", keysFile.toString());
+    }
+
+    @Test
+    void 키를_교체해도_이전_kid_로_발급된_토큰은_검증된다() throws IOException {
+        // given
+        writeKeys("active=k1\nk1=" + SECRET_1 + "\n", 1_000L);
+        jwtUtil.init();
+        String oldToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@gmail.com", UserRole.USER, 0));
+
+        // when
+        writeKeys("active=k2\nk1=" + SECRET_1 + "\nk2=" + SECRET_2 + "\n", 2_000L);
+        jwtUtil.reloadKeys();
+        String newToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@gmail.com", UserRole.USER, 0));
+
+        // then
+        assertTrue(header(oldToken).contains("\"kid\":\"k1\""));
+        assertTrue(header(newToken).contains("\"kid\":\"k2\""));
+        assertEquals("1", jwtUtil.extractClaims(oldToken).getSubject());
+        assertEquals("1", jwtUtil.extractClaims(newToken).getSubject());
+    }
+
+    @Test
+    void kid_가_없는_기존_토큰은_jwt_secret_key_로_검증된다() throws IOException {
+        // given
+        writeKeys("active=k1\nk1=" + SECRET_1 + "\n", 1_000L);
+        jwtUtil.init();
+        String legacyToken = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(LEGACY_SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertEquals("1", jwtUtil.extractClaims(legacyToken).getSubject());
+    }
+
+    @Test
+    void legacy_false_면_jwt_secret_key_와_kid_가_없는_토큰을_거부한다() throws IOException {
+        // given
+        writeKeys("", 500L);
+        jwtUtil.init();
+        String legacyKidToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@gmail.com", UserRole.USER, 0));
+        String kidlessToken = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(LEGACY_SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        writeKeys("active=k1\nlegacy=false\nk1=" + SECRET_1 + "\n", 1_000L);
+        jwtUtil.reloadKeys();
+        String newToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@gmail.com", UserRole.USER, 0));
+
+        // then
+        assertThrows(SignatureException.class, () -> jwtUtil.extractClaims(legacyKidToken));
+        assertThrows(SignatureException.class, () -> jwtUtil.extractClaims(kidlessToken));
+        assertEquals("1", jwtUtil.extractClaims(newToken).getSubject());
+    }
+
+    @Test
+    void 파일에서_빠진_kid_는_거부된다() throws IOException {
+        // given
+        writeKeys("active=k1\nk1=" + SECRET_1 + "\n", 1_000L);
+        jwtUtil.init();
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@gmail.com", UserRole.USER, 0));
+
+        // when
+        writeKeys("active=k2\nk2=" + SECRET_2 + "\n", 2_000L);
+        jwtUtil.reloadKeys();
+
+        // then
+        assertThrows(SignatureException.class, () -> jwtUtil.extractClaims(token));
+    }
+
+    @Test
+    void 잘못된_파일이면_기존_키를_유지한다() throws IOException {
+        // given
+        writeKeys("active=k1\nk1=" + SECRET_1 + "\n", 1_000L);
+        jwtUtil.init();
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@gmail.com", UserRole.USER, 0));
+
+        // when
+        writeKeys("active=missing\nk1=" + SECRET_1 + "\n", 2_000L);
+        jwtUtil.reloadKeys();
+
+        // then
+        assertEquals("1", jwtUtil.extractClaims(token).getSubject());
+    }
+
+    private void writeKeys(String content, long modifiedAt) throws IOException {
+        Files.writeString(keysFile, content);
+        Files.setLastModifiedTime(keysFile, FileTime.fromMillis(modifiedAt));
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+    }
+}
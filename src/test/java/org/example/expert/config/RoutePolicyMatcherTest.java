@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RoutePolicyMatcherTest {
+
+    @Nested
+    class FilterConfigTableTest {
+        private final RoutePolicyMatcher matcher = FilterConfig.routePolicyMatcher();
+
+        @Test
+        void 인증_경로와_정적_리소스는_PUBLIC_이다() {
+            assertEquals(RoutePolicy.PUBLIC, matcher.match("POST", "/auth/signin"));
+            assertEquals(RoutePolicy.PUBLIC, matcher.match("POST", "/auth/refresh"));
+            assertEquals(RoutePolicy.PUBLIC, matcher.match("GET", "/favicon.ico"));
+            assertEquals(RoutePolicy.PUBLIC, matcher.match("GET", "/static/css/app.css"));
+        }
+
+        @Test
+        void admin_경로는_ADMIN_이다() {
+            assertEquals(RoutePolicy.ADMIN, matcher.match("PATCH", "/admin/users/1"));
+            assertEquals(RoutePolicy.ADMIN, matcher.match("GET", "/admin/audits"));
+            assertEquals(RoutePolicy.ADMIN, matcher.match("GET", "/admin"));
+            assertEquals(RoutePolicy.ADMIN, matcher.match("GET", "/admin/"));
+            // 경로 파라미터가 붙어도 같은 핸들러로 가므로 ADMIN 입니다.
+            assertEquals(RoutePolicy.ADMIN, matcher.match("PATCH", "/admin;x/users/1"));
+            assertEquals(RoutePolicy.ADMIN, matcher.match("PATCH", "/admin;jsessionid=1/users;y=2/1"));
+        }
+
+        @Test
+        void 그_외_경로는_AUTHENTICATED_이다() {
+            assertEquals(RoutePolicy.AUTHENTICATED, matcher.match("GET", "/todos/1"));
+            assertEquals(RoutePolicy.AUTHENTICATED, matcher.match("GET", "/"));
+            assertEquals(RoutePolicy.AUTHENTICATED, matcher.match("GET", "/authors"));
+            assertEquals(RoutePolicy.AUTHENTICATED, matcher.match("GET", "/administrator"));
+        }
+    }
+
+    @Test
+    void 구체적인_패턴이_우선한다() {
+        // given
+        RoutePolicyMatcher matcher = RoutePolicyMatcher.builder(RoutePolicy.AUTHENTICATED)
+                .route("/todos/**", RoutePolicy.ADMIN)
+                .route("/todos/*/comments", RoutePolicy.PUBLIC)
+                .route("/todos/1/comments", RoutePolicy.AUTHENTICATED)
+                .build();
+
+        // when & then
+        assertEquals(RoutePolicy.AUTHENTICATED, matcher.match("GET", "/todos/1/comments"));
+        assertEquals(RoutePolicy.PUBLIC, matcher.match("GET", "/todos/2/comments"));
+        assertEquals(RoutePolicy.ADMIN, matcher.match("GET", "/todos/2/managers"));
+        // 연속된 '/' 와 끝의 '/' 는 무시합니다.
+        assertEquals(RoutePolicy.PUBLIC, matcher.match("GET", "/todos//2/comments/"));
+    }
+
+    @Test
+    void 메서드별_정책을_지정할_수_있다() {
+        // given
+        RoutePolicyMatcher matcher = RoutePolicyMatcher.builder(RoutePolicy.AUTHENTICATED)
+                .route("GET", "/todos/*", RoutePolicy.PUBLIC)
+                .route("/todos/*", RoutePolicy.ADMIN)
+                .build();
+
+        // when & then
+        assertEquals(RoutePolicy.PUBLIC, matcher.match("GET", "/todos/1"));
+        assertEquals(RoutePolicy.ADMIN, matcher.match("DELETE", "/todos/1"));
+    }
+}
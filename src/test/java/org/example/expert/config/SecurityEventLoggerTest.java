@@ -0,0 +1,49 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityEventLoggerTest {
+
+    private final SecurityEventLogger securityEventLogger = new SecurityEventLogger(1000);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+
+    @Test
+    void 같은_유형은_interval_마다_예시를_한_건만_남긴다() {
+        // given
+        long now = 10_000L;
+        int exemplars = 0;
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            if (securityEventLogger.record(JwtFailureType.EXPIRED, request, null, now + (i % 1000))) {
+                exemplars++;
+            }
+        }
+        boolean nextInterval = securityEventLogger.record(JwtFailureType.EXPIRED, request, null, now + 1000);
+
+        // then
+        assertEquals(1, exemplars);
+        assertTrue(nextInterval);
+        assertEquals(10_001L, securityEventLogger.getTotals().get(JwtFailureType.EXPIRED));
+    }
+
+    @Test
+    void 유형마다_따로_센다() {
+        // given
+        long now = 10_000L;
+
+        // when
+        boolean expired = securityEventLogger.record(JwtFailureType.EXPIRED, request, null, now);
+        boolean revoked = securityEventLogger.record(JwtFailureType.REVOKED, request, null, now);
+
+        // then
+        assertTrue(expired);
+        assertTrue(revoked);
+        assertEquals(1L, securityEventLogger.getTotals().get(JwtFailureType.EXPIRED));
+        assertEquals(1L, securityEventLogger.getTotals().get(JwtFailureType.REVOKED));
+        assertEquals(0L, securityEventLogger.getTotals().get(JwtFailureType.FORBIDDEN));
+    }
+}
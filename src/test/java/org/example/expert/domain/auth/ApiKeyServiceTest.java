@@ -0,0 +1,150 @@
+package org.example.expert.domain.auth;
+
+import org.example.expert.domain.auth.dto.request.ApiKeyCreateRequest;
+import org.example.expert.domain.auth.dto.response.ApiKeySaveResponse;
+import org.example.expert.domain.auth.entity.ApiKey;
+import org.example.expert.domain.auth.repository.ApiKeyRepository;
+import org.example.expert.domain.auth.service.ApiKeyService;
+import org.example.expert.domain.auth.service.TokenEpochService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.util.HashUtils;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ApiKeyServiceTest {
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    private ApiKeyService apiKeyService;
+
+    private final AuthUser authUser = new AuthUser(1L, "batch@gmail.com", UserRole.USER);
+    private String rawKey;
+
+    @BeforeEach
+    public void setUp() {
+        apiKeyService = new ApiKeyService(apiKeyRepository, tokenEpochService, 1000, 60_000, 100);
+    }
+
+    @Test
+    public void 발급한_키는_DB를_한_번만_조회하고_캐시로_검증한다() {
+        // given
+        ApiKey apiKey = issue(null);
+        given(tokenEpochService.isCurrent(1L, 0)).willReturn(true);
+
+        // when
+        AuthUser first = apiKeyService.authenticate(rawKey);
+        AuthUser second = apiKeyService.authenticate(rawKey);
+
+        // then
+        verify(apiKeyRepository, times(1)).findByKeyHashWithUser(apiKey.getKeyHash());
+        assertEquals(1L, first.getId());
+        assertEquals("batch@gmail.com", second.getEmail());
+        assertEquals(UserRole.USER, second.getUserRole());
+    }
+
+    @Test
+    public void 발급되지_않은_키는_DB를_조회하지_않는다() {
+        // when
+        AuthUser result = apiKeyService.authenticate("ak_unknown");
+
+        // then
+        assertNull(result);
+        verify(apiKeyRepository, never()).findByKeyHashWithUser(anyString());
+    }
+
+    @Test
+    public void 권한이_바뀐_유저의_키는_다시_조회한다() {
+        // given
+        ApiKey apiKey = issue(null);
+        given(tokenEpochService.isCurrent(1L, 0)).willReturn(false);
+
+        // when
+        apiKeyService.authenticate(rawKey);
+        apiKeyService.authenticate(rawKey);
+
+        // then
+        verify(apiKeyRepository, times(2)).findByKeyHashWithUser(apiKey.getKeyHash());
+    }
+
+    @Test
+    public void 만료된_키는_거부한다() {
+        // given
+        issue(LocalDateTime.now().minusMinutes(1));
+
+        // when
+        AuthUser result = apiKeyService.authenticate(rawKey);
+
+        // then
+        assertNull(result);
+    }
+
+    @Test
+    public void 다른_인스턴스에서_발급한_키도_갱신_후에는_통과한다() {
+        // given
+        String otherKey = "ak_issued-on-another-instance";
+        String keyHash = HashUtils.sha256Hex(otherKey);
+        User user = new User("batch@gmail.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(apiKeyRepository.streamAllKeyHashes()).willReturn(Stream.of(keyHash));
+        given(apiKeyRepository.findByKeyHashWithUser(keyHash)).willReturn(Optional.of(new ApiKey(keyHash, "batch", user, null)));
+        assertNull(apiKeyService.authenticate(otherKey));
+
+        // when
+        apiKeyService.refresh();
+        AuthUser result = apiKeyService.authenticate(otherKey);
+
+        // then
+        assertEquals(1L, result.getId());
+    }
+
+    @Test
+    public void 갱신_시점에_DB에_아직_보이지_않는_방금_발급한_키도_유지된다() {
+        // given
+        issue(null);
+        given(apiKeyRepository.streamAllKeyHashes()).willAnswer(invocation -> Stream.empty());
+
+        // when
+        apiKeyService.refresh();
+        AuthUser result = apiKeyService.authenticate(rawKey);
+
+        // then
+        assertEquals(1L, result.getId());
+    }
+
+    private ApiKey issue(LocalDateTime expiresAt) {
+        User user = new User("batch@gmail.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(apiKeyRepository.save(any(ApiKey.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        ApiKeySaveResponse response = apiKeyService.issue(authUser, new ApiKeyCreateRequest("batch", null));
+        rawKey = response.getApiKey();
+
+        ArgumentCaptor<ApiKey> captor = ArgumentCaptor.forClass(ApiKey.class);
+        verify(apiKeyRepository).save(captor.capture());
+        ApiKey apiKey = new ApiKey(captor.getValue().getKeyHash(), "batch", user, expiresAt);
+        given(apiKeyRepository.findByKeyHashWithUser(apiKey.getKeyHash())).willReturn(Optional.of(apiKey));
+        return apiKey;
+    }
+}
@@ -4,14 +4,18 @@ import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.RefreshTokenService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserEmailBloomFilter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +23,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.security.Key;
@@ -42,6 +47,12 @@ public class AuthServiceTest {
     @Spy
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private UserEmailBloomFilter userEmailBloomFilter;
+
     @InjectMocks
     private AuthService authService;
 
@@ -52,6 +63,7 @@ public class AuthServiceTest {
             // given
             SignupRequest request = new SignupRequest("user@gmail.com", "PASSWORD1234", "USER");
 
+            given(userEmailBloomFilter.mightExist(anyString())).willReturn(true);
             given(userRepository.existsByEmail(anyString())).willReturn(true);
 
             // when
@@ -59,6 +71,39 @@ public class AuthServiceTest {
 
             // then
             verify(userRepository, times(1)).existsByEmail(anyString());
+            verify(passwordEncoder, never()).encode(anyString());
+            assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        }
+
+        @Test
+        public void 대소문자만_다른_이메일은_소문자로_중복을_확인한다() {
+            // given
+            SignupRequest request = new SignupRequest("User@Gmail.com", "PASSWORD1234", "USER");
+
+            given(userEmailBloomFilter.mightExist("user@gmail.com")).willReturn(true);
+            given(userRepository.existsByEmail("user@gmail.com")).willReturn(true);
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> authService.signup(request));
+
+            // then
+            verify(passwordEncoder, never()).encode(anyString());
+            assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        }
+
+        @Test
+        public void 동시에_가입된_이메일이면_unique_제약으로_에러_발생() {
+            // given
+            SignupRequest request = new SignupRequest("user@gmail.com", "PASSWORD1234", "USER");
+
+            given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate"));
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> authService.signup(request));
+
+            // then
+            verify(userRepository, never()).existsByEmail(anyString());
+            verify(userEmailBloomFilter, never()).add(anyString());
             assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
         }
 
@@ -71,8 +116,8 @@ public class AuthServiceTest {
             ReflectionTestUtils.setField(savedUser, "email", request.getEmail());
             ReflectionTestUtils.setField(jwtUtil, "secretKey", "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==");
 
-            given(userRepository.existsByEmail(anyString())).willReturn(false);
             given(userRepository.save(any(User.class))).willReturn(savedUser);
+            given(refreshTokenService.issue(savedUser)).willReturn("refreshToken");
             ReflectionTestUtils.invokeMethod(jwtUtil, "init");
 
             // when
@@ -81,10 +126,16 @@ public class AuthServiceTest {
 
             // then
             verify(passwordEncoder, times(1)).encode(anyString());
+            verify(userRepository, never()).existsByEmail(anyString());
             verify(userRepository, times(1)).save(any(User.class));
-            verify(jwtUtil, times(1)).createToken(anyLong(), anyString(), any(UserRole.class));
+            verify(userEmailBloomFilter, times(1)).add(request.getEmail());
+            verify(jwtUtil, times(1)).createToken(anyLong(), anyString(), any(UserRole.class), anyInt());
             assertNotNull(response);
-            assertEquals("Bearer eyJhbGciOiJIUzI1NiJ9", response.getBearerToken().substring(0, 27));
+            String header = new String(Base64.getUrlDecoder().decode(response.getBearerToken().substring(7).split("\\.")[0]));
+            assertTrue(response.getBearerToken().startsWith("Bearer "));
+            assertTrue(header.contains("\"alg\":\"HS256\""));
+            assertTrue(header.contains("\"kid\":\"default\""));
+            assertEquals("refreshToken", response.getRefreshToken());
         }
     }
 
@@ -146,8 +197,35 @@ public class AuthServiceTest {
             // then
             verify(userRepository, times(1)).findByEmail(anyString());
             assertTrue(passwordEncoder.matches(request.getPassword(), user.getPassword()));
-            verify(jwtUtil, times(1)).createToken(anyLong(), anyString(), any(UserRole.class));
+            verify(jwtUtil, times(1)).createToken(anyLong(), anyString(), any(UserRole.class), anyInt());
+            verify(refreshTokenService, times(1)).issue(user);
             assertNotNull(response);
         }
     }
+
+    @Nested
+    class RefreshTest {
+
+        @Test
+        public void refresh_token_으로_토큰을_재발급한다() {
+            // given
+            TokenRefreshRequest request = new TokenRefreshRequest("oldRefreshToken");
+            User user = new User("user@gmail.com", "encodedPassword", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+            ReflectionTestUtils.setField(jwtUtil, "secretKey", "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==");
+
+            given(refreshTokenService.consume("oldRefreshToken")).willReturn(user);
+            given(refreshTokenService.issue(user)).willReturn("newRefreshToken");
+            ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+            // when
+            TokenRefreshResponse response = authService.refresh(request);
+
+            // then
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
+            verify(userRepository, never()).findByEmail(anyString());
+            assertTrue(response.getBearerToken().startsWith("Bearer "));
+            assertEquals("newRefreshToken", response.getRefreshToken());
+        }
+    }
 }
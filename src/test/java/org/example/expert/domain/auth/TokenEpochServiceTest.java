@@ -0,0 +1,92 @@
+package org.example.expert.domain.auth;
+
+import org.example.expert.domain.auth.service.TokenEpochService;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenEpochServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenEpochService tokenEpochService;
+
+    @BeforeEach
+    public void setUp() {
+        tokenEpochService = new TokenEpochService(userRepository, 16, 60_000);
+    }
+
+    @Test
+    public void 캐시된_버전은_DB를_다시_조회하지_않는다() {
+        // given
+        long userId = 1L;
+        given(userRepository.findTokenVersionById(userId)).willReturn(Optional.of(0));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertTrue(tokenEpochService.isCurrent(userId, 0));
+        }
+
+        // then
+        verify(userRepository, times(1)).findTokenVersionById(userId);
+    }
+
+    @Test
+    public void 버전이_바뀌면_이전_토큰은_거부된다() {
+        // given
+        long userId = 1L;
+        given(userRepository.findTokenVersionById(userId)).willReturn(Optional.of(0));
+        assertTrue(tokenEpochService.isCurrent(userId, 0));
+
+        // when
+        given(userRepository.findTokenVersionById(userId)).willReturn(Optional.of(1));
+        tokenEpochService.invalidate(userId);
+
+        // then
+        assertFalse(tokenEpochService.isCurrent(userId, 0));
+        assertTrue(tokenEpochService.isCurrent(userId, 1));
+    }
+
+    @Test
+    public void 조회하는_사이에_invalidate_되면_조회한_값을_캐시하지_않는다() {
+        // given
+        long userId = 1L;
+        // 커밋 전 값을 읽는 동안 커밋 후 invalidate 가 지나갑니다.
+        given(userRepository.findTokenVersionById(userId))
+                .willAnswer(invocation -> {
+                    tokenEpochService.invalidate(userId);
+                    return Optional.of(0);
+                })
+                .willReturn(Optional.of(1));
+
+        // when
+        assertTrue(tokenEpochService.isCurrent(userId, 0));
+
+        // then
+        assertFalse(tokenEpochService.isCurrent(userId, 0));
+        assertTrue(tokenEpochService.isCurrent(userId, 1));
+        verify(userRepository, times(2)).findTokenVersionById(userId);
+    }
+
+    @Test
+    public void 유저가_없으면_거부된다() {
+        // given
+        given(userRepository.findTokenVersionById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertFalse(tokenEpochService.isCurrent(1L, 0));
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.auth;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==")
+public class TokenRevocationServiceRealTest {
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @AfterEach
+    public void tearDown() {
+        tokenRevocationRepository.deleteAll();
+    }
+
+    @Test
+    public void 로그아웃_직후_다시_로그인한_토큰만_통과한다() throws InterruptedException {
+        // given
+        long userId = 1L;
+        Claims before = claims(userId);
+        Thread.sleep(2);
+        tokenRevocationService.revokeAll(userId);
+        Thread.sleep(2);
+        Claims after = claims(userId);
+
+        // when
+        boolean beforeRevoked = tokenRevocationService.isRevoked(userId, JwtUtil.issuedAtMillis(before));
+        boolean afterRevoked = tokenRevocationService.isRevoked(userId, JwtUtil.issuedAtMillis(after));
+
+        // then
+        assertTrue(beforeRevoked);
+        assertFalse(afterRevoked);
+    }
+
+    @Test
+    public void 다시_폐기하면_더_늦은_시각으로_바뀐다() throws InterruptedException {
+        // given
+        long userId = 1L;
+        tokenRevocationService.revokeAll(userId);
+        long first = tokenRevocationRepository.findById(userId).orElseThrow().getIssuedBeforeMillis();
+        Thread.sleep(2);
+
+        // when
+        tokenRevocationService.revokeAll(userId);
+
+        // then
+        assertEquals(1, tokenRevocationRepository.count());
+        assertTrue(tokenRevocationRepository.findById(userId).orElseThrow().getIssuedBeforeMillis() > first);
+    }
+
+    private Claims claims(long userId) {
+        String token = jwtUtil.createToken(userId, "user@gmail.com", UserRole.USER, 0);
+        return jwtUtil.extractClaims(jwtUtil.substringToken(token));
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.expert.domain.auth;
+
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    public void setUp() {
+        tokenRevocationService = new TokenRevocationService(tokenRevocationRepository, 1_000);
+    }
+
+    @Test
+    public void 폐기_이력이_없는_유저는_DB_조회없이_통과한다() {
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(1L, System.currentTimeMillis());
+
+        // then
+        assertFalse(revoked);
+        verifyNoInteractions(tokenRevocationRepository);
+    }
+
+    @Test
+    public void 폐기_이전에_발급된_토큰은_폐기된다() {
+        // given
+        long userId = 1L;
+        long issuedAt = System.currentTimeMillis() - 10_000;
+        tokenRevocationService.revokeAll(userId);
+        ArgumentCaptor<Long> issuedBefore = ArgumentCaptor.forClass(Long.class);
+        verify(tokenRevocationRepository, times(1)).insert(eq(userId), issuedBefore.capture());
+        given(tokenRevocationRepository.findById(userId))
+                .willReturn(Optional.of(new TokenRevocation(userId, issuedBefore.getValue())));
+
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(userId, issuedAt);
+
+        // then
+        assertTrue(revoked);
+    }
+
+    @Test
+    public void 로그아웃_직후_같은_초에_발급된_토큰은_통과한다() {
+        // given
+        long userId = 1L;
+        tokenRevocationService.revokeAll(userId);
+        ArgumentCaptor<Long> issuedBefore = ArgumentCaptor.forClass(Long.class);
+        verify(tokenRevocationRepository, times(1)).insert(eq(userId), issuedBefore.capture());
+        given(tokenRevocationRepository.findById(userId))
+                .willReturn(Optional.of(new TokenRevocation(userId, issuedBefore.getValue())));
+
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(userId, issuedBefore.getValue());
+
+        // then
+        assertFalse(revoked);
+    }
+
+    @Test
+    public void 동시에_처음_폐기해서_INSERT_가_부딪히면_UPDATE_로_반영한다() {
+        // given
+        long userId = 1L;
+        given(tokenRevocationRepository.insert(eq(userId), anyLong())).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        tokenRevocationService.revokeAll(userId);
+
+        // then
+        verify(tokenRevocationRepository, times(2)).revokeBefore(eq(userId), anyLong());
+    }
+
+    @Test
+    public void 폐기_이후에_발급된_토큰은_통과한다() {
+        // given
+        long userId = 1L;
+        given(tokenRevocationRepository.findAllUserIds()).willReturn(List.of(userId));
+        given(tokenRevocationRepository.findById(anyLong()))
+                .willReturn(Optional.of(new TokenRevocation(userId, System.currentTimeMillis() - 60_000)));
+        tokenRevocationService.refresh();
+
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(userId, System.currentTimeMillis());
+
+        // then
+        assertFalse(revoked);
+        verify(tokenRevocationRepository, times(1)).findById(userId);
+    }
+}
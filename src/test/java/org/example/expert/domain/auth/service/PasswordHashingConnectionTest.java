@@ -0,0 +1,94 @@
+package org.example.expert.domain.auth.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+// 풀 전체의 활성 커넥션 수를 보므로, 커넥션을 쓰는 백그라운드 작업(기동 시 재색인, 스케줄 작업, 감사 로그 기록)은 끕니다.
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==",
+        "search.reindex-on-startup=false",
+        "scheduling.enabled=false",
+        "audit.writer.enabled=false"
+})
+public class PasswordHashingConnectionTest {
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    // 해싱이 실행되는 순간의 활성 커넥션 수
+    private final List<Integer> activeConnections = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> {
+            activeConnections.add(activeConnections());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(anyString());
+        doAnswer(invocation -> {
+            activeConnections.add(activeConnections());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(anyString(), anyString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void 회원가입_로그인_비밀번호_변경_중_해싱할_때_커넥션을_잡지_않는다() {
+        // given
+        authService.signup(new SignupRequest("hash@gmail.com", "PASSWORD1234", "USER"));
+        Long userId = userRepository.findByEmail("hash@gmail.com").orElseThrow().getId();
+
+        // when
+        authService.signin(new SigninRequest("hash@gmail.com", "PASSWORD1234"));
+        userService.changePassword(userId, new UserChangePasswordRequest("PASSWORD1234", "NEWPASSWORD1234"));
+
+        // then
+        // 회원가입 encode 1번, 로그인 matches 1번, 비밀번호 변경 matches 2번 + encode 1번
+        assertEquals(5, activeConnections.size());
+        assertTrue(activeConnections.stream().allMatch(active -> active == 0), activeConnections.toString());
+    }
+
+    private int activeConnections() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+    }
+}
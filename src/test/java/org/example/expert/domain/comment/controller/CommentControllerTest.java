@@ -1,6 +1,7 @@
 package org.example.expert.domain.comment.controller;
 
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentStreamService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -23,6 +24,9 @@ public class CommentControllerTest {
     @MockBean
     private CommentService commentService;
 
+    @MockBean
+    private CommentStreamService commentStreamService;
+
     @Test
     public void 댓글_조회() throws Exception {
         // given
@@ -0,0 +1,64 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==")
+public class CommentAdminServiceRealTest {
+    @Autowired
+    private CommentAdminService commentAdminService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @AfterEach
+    public void tearDown() {
+        commentRepository.deleteAll();
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void 댓글을_삭제하면_일정의_댓글_수가_줄어든다() {
+        // given
+        User user = userRepository.save(new User("user@gmail.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        Comment comment = commentRepository.save(new Comment("contents1", user, todo));
+        commentRepository.save(new Comment("contents2", user, todo));
+        jdbcTemplate.update("UPDATE todos SET comment_count = 2 WHERE id = ?", todo.getId());
+
+        // when
+        commentAdminService.deleteComment(comment.getId());
+
+        // then
+        Todo found = todoRepository.findById(todo.getId()).orElseThrow();
+        assertEquals(1, found.getCommentCount());
+        assertEquals(1, found.getManagerCount());
+    }
+}
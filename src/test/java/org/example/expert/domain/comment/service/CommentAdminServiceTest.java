@@ -1,12 +1,14 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.mockito.Mockito.*;
 
@@ -15,6 +17,12 @@ public class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -30,6 +38,7 @@ public class CommentAdminServiceTest {
             commentAdminService.deleteComment(commentId);
 
             // then
+            verify(todoRepository, times(1)).decrementCommentCountByCommentId(commentId);
             verify(commentRepository, times(1)).deleteById(commentId);
         }
     }
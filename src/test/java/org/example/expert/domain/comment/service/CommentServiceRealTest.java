@@ -1,16 +1,85 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.config.QueryCountMode;
+import org.example.expert.config.QueryCounter;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==")
 public class CommentServiceRealTest {
     @Autowired
     private CommentService commentService;
 
-//    @Test
-//    public void 실제_댓글_테스트() {
-//
-//    }
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @AfterEach
+    public void tearDown() {
+        QueryCounter.stop();
+        commentRepository.deleteAll();
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void 댓글_등록시_쿼리_수가_기준을_넘지_않는다() {
+        // given
+        User user = userRepository.save(new User("user@gmail.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        CommentSaveRequest request = new CommentSaveRequest("contents");
+
+        // when
+        QueryCounter.start(QueryCountMode.FAIL, 4);
+        commentService.saveComment(authUser, todo.getId(), request);
+        int count = QueryCounter.stop();
+
+        // then
+        // 할일 조회, 담당자 목록 지연 로딩, 댓글 저장, 댓글 수 증가
+        assertEquals(4, count);
+        assertEquals(1, todoRepository.findById(todo.getId()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    public void 댓글_조회시_작성자를_한번에_가져온다() {
+        // given
+        User user = userRepository.save(new User("user@gmail.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        for (int i = 0; i < 5; i++) {
+            commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("contents" + i));
+        }
+
+        // when
+        QueryCounter.start(QueryCountMode.FAIL, 1);
+        int size = commentService.getComments(todo.getId()).size();
+        int count = QueryCounter.stop();
+
+        // then
+        assertEquals(5, size);
+        assertEquals(1, count);
+    }
 }
@@ -0,0 +1,138 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.controller.CommentController;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+public class CommentStreamServiceTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+
+    private CommentSavedEvent commentSaved(long todoId, long commentId) {
+        return new CommentSavedEvent(todoId, new CommentResponse(commentId, "contents" + commentId, new UserResponse(1L, "user@gmail.com")));
+    }
+
+    @Test
+    public void 구독자에게_커밋된_댓글을_보낸다() throws Exception {
+        // given
+        given(todoRepository.existsById(anyLong())).willReturn(true);
+        CommentStreamService commentStreamService = new CommentStreamService(todoRepository, Runnable::run, 60000, 16, 100);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CommentController(mock(CommentService.class), commentStreamService)).build();
+        MvcResult result = mockMvc.perform(get("/todos/{todoId}/comments/stream", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        commentStreamService.handle(commentSaved(1L, 10L));
+        commentStreamService.handle(commentSaved(2L, 20L));
+
+        // then
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("id:10\nevent:comment\ndata:{\"id\":10,\"contents\":\"contents10\""));
+        assertFalse(body.contains("contents20"));
+    }
+
+    @Test
+    public void 댓글을_보내는_중에_온_heartbeat_도_이어서_보낸다() throws Exception {
+        // given
+        given(todoRepository.existsById(anyLong())).willReturn(true);
+        CommentStreamService commentStreamService = new CommentStreamService(todoRepository, Runnable::run, 60000, 16, 100);
+        // 댓글 한 건을 쓰는 도중에 heartbeat 주기가 돌아온 상황
+        AtomicBoolean heartbeatFired = new AtomicBoolean();
+        MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter() {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                super.writeInternal(object, type, outputMessage);
+                if (heartbeatFired.compareAndSet(false, true)) {
+                    commentStreamService.heartbeat();
+                }
+            }
+        };
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CommentController(mock(CommentService.class), commentStreamService))
+                .setMessageConverters(new StringHttpMessageConverter(), jsonConverter)
+                .build();
+        MvcResult result = mockMvc.perform(get("/todos/{todoId}/comments/stream", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        commentStreamService.handle(commentSaved(1L, 10L));
+
+        // then
+        String body = result.getResponse().getContentAsString();
+        assertTrue(heartbeatFired.get());
+        assertTrue(body.indexOf(":heartbeat") > body.indexOf("id:10"));
+    }
+
+    @Test
+    public void 버퍼가_넘치면_느린_구독자의_연결을_끊는다() {
+        // given
+        given(todoRepository.existsById(anyLong())).willReturn(true);
+        // 전송 작업을 실행하지 않아서 버퍼가 비워지지 않는 구독자
+        List<Runnable> pending = new ArrayList<>();
+        CommentStreamService commentStreamService = new CommentStreamService(todoRepository, pending::add, 60000, 2, 100);
+        commentStreamService.subscribe(1L);
+
+        // when
+        for (long commentId = 1; commentId <= 3; commentId++) {
+            commentStreamService.handle(commentSaved(1L, commentId));
+        }
+
+        // then
+        assertEquals(1, pending.size());
+        assertEquals(0, commentStreamService.getSubscriberCount());
+        assertEquals(1, commentStreamService.getEvictedCount());
+    }
+
+    @Test
+    public void 구독자_수가_한도를_넘으면_에러_발생() {
+        // given
+        given(todoRepository.existsById(anyLong())).willReturn(true);
+        CommentStreamService commentStreamService = new CommentStreamService(todoRepository, Runnable::run, 60000, 16, 1);
+        commentStreamService.subscribe(1L);
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () -> commentStreamService.subscribe(1L));
+
+        // then
+        assertEquals("구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.", exception.getMessage());
+        assertEquals(1, commentStreamService.getSubscriberCount());
+    }
+
+    @Test
+    public void 없는_일정은_구독할_수_없다() {
+        // given
+        given(todoRepository.existsById(anyLong())).willReturn(false);
+        CommentStreamService commentStreamService = new CommentStreamService(todoRepository, Runnable::run, 60000, 16, 100);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> commentStreamService.subscribe(1L));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.common.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExceptionStackTraceTest {
+
+    @Test
+    public void 요청_오류는_스택_트레이스를_채우지_않는다() {
+        // when
+        InvalidRequestException exception = new InvalidRequestException("User not found");
+
+        // then
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    public void 서버_오류는_원인을_찾도록_스택_트레이스를_채운다() {
+        // when
+        ServerException exception = new ServerException("날씨 데이터가 없습니다.");
+
+        // then
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+}
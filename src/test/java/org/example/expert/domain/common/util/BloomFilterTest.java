@@ -0,0 +1,46 @@
+package org.example.expert.domain.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterTest {
+
+    @Test
+    public void 추가한_키는_항상_포함된다() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+
+        // when
+        for (long i = 0; i < 1_000; i++) {
+            bloomFilter.put(i);
+            bloomFilter.put("user" + i + "@gmail.com");
+        }
+
+        // then
+        for (long i = 0; i < 1_000; i++) {
+            assertTrue(bloomFilter.mightContain(i));
+            assertTrue(bloomFilter.mightContain("user" + i + "@gmail.com"));
+        }
+    }
+
+    @Test
+    public void 오탐률이_설정값_근처로_유지된다() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) {
+            bloomFilter.put(i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (long i = 10_000; i < 110_000; i++) {
+            if (bloomFilter.mightContain(i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives < 2_000, "false positives : " + falsePositives);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.domain.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RateLimiterTest {
+
+    @Test
+    public void burst_만큼_허용한_뒤_거부한다() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(1024, 60, 5);
+        long now = System.nanoTime();
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimiter.tryAcquire("user@gmail.com", now));
+        }
+        assertFalse(rateLimiter.tryAcquire("user@gmail.com", now));
+    }
+
+    @Test
+    public void 시간이_지나면_다시_허용한다() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(1024, 60, 1);
+        long now = System.nanoTime();
+        assertTrue(rateLimiter.tryAcquire("user@gmail.com", now));
+        assertFalse(rateLimiter.tryAcquire("user@gmail.com", now));
+
+        // when & then (분당 60회 = 1초에 1회)
+        assertTrue(rateLimiter.tryAcquire("user@gmail.com", now + TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    public void 키마다_따로_제한한다() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(1024, 60, 1);
+        long now = System.nanoTime();
+
+        // when & then
+        assertTrue(rateLimiter.tryAcquire("user1@gmail.com", now));
+        assertTrue(rateLimiter.tryAcquire("user2@gmail.com", now));
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.config.QueryCountMode;
+import org.example.expert.config.QueryCounter;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==")
+public class ManagerServiceRealTest {
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @AfterEach
+    public void tearDown() {
+        QueryCounter.stop();
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void 담당자_삭제시_쿼리_수가_기준을_넘지_않는다() {
+        // given
+        User owner = userRepository.save(new User("owner@gmail.com", "password", UserRole.USER));
+        User managerUser = userRepository.save(new User("manager@gmail.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", owner));
+        Manager manager = managerRepository.save(new Manager(managerUser, todo));
+
+        // when
+        QueryCounter.start(QueryCountMode.FAIL, 5);
+        managerService.deleteManager(owner.getId(), todo.getId(), manager.getId());
+        int count = QueryCounter.stop();
+
+        // then
+        // 유저 조회, 할일 조회, 담당자 조회, 담당자 삭제, 담당자 수 감소
+        assertEquals(5, count);
+    }
+
+    @Test
+    public void 담당자_목록_조회시_유저를_한번에_가져온다() {
+        // given
+        User owner = userRepository.save(new User("owner@gmail.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", owner));
+        for (int i = 0; i < 3; i++) {
+            User managerUser = userRepository.save(new User("manager" + i + "@gmail.com", "password", UserRole.USER));
+            managerRepository.save(new Manager(managerUser, todo));
+        }
+
+        // when
+        QueryCounter.start(QueryCountMode.FAIL, 2);
+        int size = managerService.getManagers(todo.getId()).size();
+        int count = QueryCounter.stop();
+
+        // then
+        assertEquals(4, size);
+        assertEquals(2, count);
+    }
+}
@@ -191,6 +191,7 @@ class ManagerServiceTest {
             assertNotNull(response);
             assertEquals(managerUser.getId(), response.getUser().getId());
             assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+            verify(todoRepository, times(1)).addManagerCount(todoId, 1);
         }
     }
 
@@ -414,6 +415,7 @@ class ManagerServiceTest {
             verify(todoRepository, times(1)).findById(todoId);
             verify(managerRepository, times(1)).findById(managerId);
             verify(managerRepository, times(1)).delete(manager);
+            verify(todoRepository, times(1)).addManagerCount(todoId, -1);
         }
     }
 
@@ -0,0 +1,102 @@
+package org.example.expert.domain.search.service;
+
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.search.dto.response.SearchResultResponse;
+import org.example.expert.domain.search.enums.SearchType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchIndexServiceTest {
+
+    private SearchIndexService searchIndexService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndexService = new SearchIndexService("");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndexService.close();
+    }
+
+    @Test
+    void 조사가_붙은_한글도_찾고_제목에_있는_결과가_먼저_나온다() {
+        // given
+        searchIndexService.index(SearchDocument.todo(1L, "주간 보고", "회의록을 정리해서 공유하기"));
+        searchIndexService.index(SearchDocument.todo(2L, "회의록 작성", "월요일 회의"));
+        searchIndexService.index(SearchDocument.comment(10L, 1L, "회의록은 내일까지 올려주세요"));
+        searchIndexService.index(SearchDocument.todo(3L, "장보기", "우유 사기"));
+        searchIndexService.refresh();
+
+        // when
+        Page<SearchResultResponse> result = searchIndexService.search("회의록", 1, 10);
+
+        // then
+        assertEquals(3, result.getTotalElements());
+        SearchResultResponse first = result.getContent().get(0);
+        assertEquals(SearchType.TODO, first.getType());
+        assertEquals(2L, first.getId());
+        assertEquals("회의록 작성", first.getTitle());
+    }
+
+    @Test
+    void 수정과_삭제가_반영된다() {
+        // given
+        searchIndexService.index(SearchDocument.todo(1L, "spring study", "jpa"));
+        searchIndexService.index(SearchDocument.comment(10L, 1L, "spring boot"));
+        searchIndexService.refresh();
+
+        // when
+        searchIndexService.index(SearchDocument.todo(1L, "java study", "jpa"));
+        searchIndexService.delete(SearchType.COMMENT, 10L);
+        searchIndexService.refresh();
+
+        // then
+        assertEquals(0, searchIndexService.search("spring", 1, 10).getTotalElements());
+        assertEquals(1, searchIndexService.search("java", 1, 10).getTotalElements());
+    }
+
+    @Test
+    void 결과를_페이지로_나눈다() {
+        // given
+        for (long id = 1; id <= 25; id++) {
+            searchIndexService.index(SearchDocument.todo(id, "todo " + id, "weekly report"));
+        }
+        searchIndexService.refresh();
+
+        // when
+        Page<SearchResultResponse> page = searchIndexService.search("report", 3, 10);
+
+        // then
+        assertEquals(25, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(5, page.getContent().size());
+    }
+
+    @Test
+    void 재색인_중에는_이전_결과가_검색된다() {
+        // given
+        searchIndexService.index(SearchDocument.todo(1L, "old", "contents"));
+        searchIndexService.refresh();
+
+        // when
+        searchIndexService.startReindex();
+        searchIndexService.index(SearchDocument.todo(2L, "new", "contents"));
+        searchIndexService.refresh();
+        List<Long> during = searchIndexService.search("contents", 1, 10).map(SearchResultResponse::getId).getContent();
+        searchIndexService.finishReindex();
+        List<Long> after = searchIndexService.search("contents", 1, 10).map(SearchResultResponse::getId).getContent();
+
+        // then
+        assertEquals(List.of(1L), during);
+        assertEquals(List.of(2L), after);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.domain.search.service;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.search.dto.SearchDocument;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchReindexServiceTest {
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @InjectMocks
+    private SearchReindexService searchReindexService;
+
+    @Test
+    public void 일정_id_범위만_색인한다() {
+        // given
+        SearchDocument todo5 = SearchDocument.todo(5L, "title5", "contents5");
+        SearchDocument todo6 = SearchDocument.todo(6L, "title6", "contents6");
+        SearchDocument todo7 = SearchDocument.todo(7L, "title7", "contents7");
+        given(todoRepository.findSearchDocumentsAfter(eq(4L), any())).willReturn(List.of(todo5, todo6, todo7));
+
+        // when
+        searchReindexService.reindexTodos(5L, 6L);
+
+        // then
+        verify(searchIndexService, times(1)).index(todo5);
+        verify(searchIndexService, times(1)).index(todo6);
+        verify(searchIndexService, never()).index(todo7);
+        verify(searchIndexService, never()).startReindex();
+        verifyNoInteractions(commentRepository);
+    }
+}
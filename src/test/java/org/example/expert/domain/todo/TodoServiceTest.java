@@ -3,12 +3,18 @@ package org.example.expert.domain.todo;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoFilter;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoQueryRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoViewCounter;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Nested;
@@ -17,19 +23,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -39,9 +50,18 @@ public class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private TodoQueryRepository todoQueryRepository;
+
+    @Mock
+    private TodoViewCounter todoViewCounter;
+
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -108,6 +128,76 @@ public class TodoServiceTest {
         }
     }
 
+    @Nested
+    class GetTodosByCursorTest {
+        @Test
+        public void 페이지가_가득_차면_마지막_항목을_다음_커서로_준다() {
+            // given
+            TodoFilter filter = new TodoFilter(1L, null, null, null, null, null, null);
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+            UserResponse user = new UserResponse(1L, "user@gmail.com");
+            List<TodoResponse> todos = List.of(
+                    new TodoResponse(2L, "title", "contents", "sunny", user, modifiedAt, modifiedAt.plusHours(1), 0, 1, 0),
+                    new TodoResponse(1L, "title", "contents", "sunny", user, modifiedAt, modifiedAt, 0, 1, 0)
+            );
+            given(todoQueryRepository.findPage(eq(filter), any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(2))).willReturn(todos);
+
+            // when
+            TodoPageResponse response = todoService.getTodos(filter, null, null, 2);
+
+            // then
+            assertEquals(2, response.getTodos().size());
+            assertEquals(modifiedAt, response.getNextCursorAt());
+            assertEquals(1L, response.getNextCursorId());
+        }
+
+        @Test
+        public void size_가_범위를_벗어나면_에러_발생() {
+            // given
+            TodoFilter filter = new TodoFilter(null, null, null, null, null, null, null);
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> todoService.getTodos(filter, null, null, 101));
+
+            // then
+            assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    class GetTodosByIdsTest {
+        @Test
+        public void 요청한_순서대로_돌려주고_없는_id_를_알려준다() {
+            // given
+            User user = User.fromAuthUser(new AuthUser(1L, "user@gmail.com", UserRole.USER));
+            Todo todo1 = new Todo("title1", "contents", "sunny", user);
+            ReflectionTestUtils.setField(todo1, "id", 1L);
+            Todo todo3 = new Todo("title3", "contents", "sunny", user);
+            ReflectionTestUtils.setField(todo3, "id", 3L);
+            given(todoRepository.findAllByIdInWithUser(any())).willReturn(List.of(todo1, todo3));
+
+            // when
+            TodoBatchResponse response = todoService.getTodos(List.of(3L, 2L, 1L, 3L));
+
+            // then
+            assertEquals(List.of(3L, 1L), response.getTodos().stream().map(TodoResponse::getId).toList());
+            assertEquals(List.of(2L), response.getMissingIds());
+        }
+
+        @Test
+        public void id_가_최대_개수를_넘으면_에러_발생() {
+            // given
+            List<Long> ids = LongStream.rangeClosed(1, 201).boxed().toList();
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> todoService.getTodos(ids));
+
+            // then
+            assertEquals("ids 는 1개 이상 200개 이하여야 합니다.", exception.getMessage());
+            verify(todoRepository, never()).findAllByIdInWithUser(any());
+        }
+    }
+
     @Nested
     class GetTodoTest {
 
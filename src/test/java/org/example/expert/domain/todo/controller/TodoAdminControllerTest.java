@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.example.expert.domain.todo.service.TodoViewCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class TodoAdminControllerTest {
+
+    private final TodoExportService todoExportService = mock(TodoExportService.class);
+    private final TodoAdminController todoAdminController = new TodoAdminController(
+            mock(TodoViewCounter.class), todoExportService, mock(TodoImportService.class), new ObjectMapper());
+
+    @Test
+    public void 끝까지_내보내면_완전한_gzip_파일이_된다() throws Exception {
+        // given
+        given(todoExportService.export(eq(TodoExportFormat.NDJSON), any())).willAnswer(invocation -> {
+            Writer writer = invocation.getArgument(1);
+            writer.write("{\"id\":1}\n");
+            return 1L;
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        todoAdminController.exportTodos("ndjson", true, response);
+
+        // then
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals("{\"id\":1}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void 중간에_실패하면_gzip_trailer_를_쓰지_않아_잘린_파일로_남는다() throws Exception {
+        // given
+        given(todoExportService.export(eq(TodoExportFormat.NDJSON), any())).willAnswer(invocation -> {
+            Writer writer = invocation.getArgument(1);
+            writer.write("{\"id\":1}\n");
+            writer.flush();
+            throw new QueryTimeoutException("timeout");
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        assertThrows(QueryTimeoutException.class, () -> todoAdminController.exportTodos("ndjson", true, response));
+
+        // then
+        assertThrows(EOFException.class, () -> readAll(response.getContentAsByteArray()));
+    }
+
+    private static void readAll(byte[] gzipped) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==")
+public class TodoQueryRepositoryTest {
+
+    private static final LocalDateTime MAX_CURSOR_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Autowired
+    private TodoQueryRepository todoQueryRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    private User owner;
+    private User other;
+
+    @BeforeEach
+    public void setUp() {
+        owner = userRepository.save(new User("owner@gmail.com", "password", UserRole.USER));
+        other = userRepository.save(new User("other@gmail.com", "password", UserRole.USER));
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            todos.add(new Todo("title" + i, "contents", i % 2 == 0 ? "sunny" : "rainy", i % 3 == 0 ? owner : other));
+        }
+        todoRepository.saveAll(todos);
+        managerRepository.save(new Manager(owner, todos.get(1)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void 모든_필터_조합이_인덱스를_탄다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (int mask = 0; mask < 32; mask++) {
+            TodoFilter filter = new TodoFilter(
+                    (mask & 1) != 0 ? owner.getId() : null,
+                    (mask & 2) != 0 ? owner.getId() : null,
+                    (mask & 4) != 0 ? "sunny" : null,
+                    (mask & 8) != 0 ? now.minusDays(1) : null,
+                    (mask & 8) != 0 ? now.plusDays(1) : null,
+                    (mask & 16) != 0 ? now.minusDays(1) : null,
+                    (mask & 16) != 0 ? now.plusDays(1) : null
+            );
+
+            // when
+            String plan = explain(filter);
+
+            // then
+            assertTrue(usesFilterIndex(filter, plan), "mask=" + mask + "\n" + plan);
+            if (filter.getManagerId() != null) {
+                assertTrue(plan.contains("IDX_MANAGERS_USER_ID_TODO_ID: USER_ID ="), "mask=" + mask + "\n" + plan);
+            }
+        }
+    }
+
+    @Test
+    public void 인덱스가_없으면_필터_인덱스_검사가_실패한다() {
+        // given
+        TodoFilter filter = new TodoFilter(null, null, "sunny", null, null, null, null);
+        jdbcTemplate.getJdbcTemplate().execute("DROP INDEX idx_todos_weather_modified_at");
+
+        // when
+        String plan;
+        try {
+            plan = explain(filter);
+        } finally {
+            jdbcTemplate.getJdbcTemplate().execute("CREATE INDEX idx_todos_weather_modified_at ON todos (weather, modified_at, id)");
+        }
+
+        // then
+        // 커서 조건(modified_at <= 9999-12-31)으로 modified_at 인덱스 전체를 훑는 계획은 통과하지 않아야 합니다.
+        assertFalse(usesFilterIndex(filter, plan), plan);
+        assertTrue(usesFilterIndex(filter, explain(filter)));
+    }
+
+    @Test
+    public void 커서로_다음_페이지를_중복_없이_끝까지_조회한다() {
+        // given
+        TodoFilter filter = new TodoFilter(null, null, "sunny", null, null, null, null);
+        Set<Long> ids = new HashSet<>();
+        LocalDateTime cursorAt = MAX_CURSOR_AT;
+        Long cursorId = Long.MAX_VALUE;
+
+        // when
+        List<TodoResponse> page;
+        do {
+            page = todoQueryRepository.findPage(filter, cursorAt, cursorId, 4);
+            for (TodoResponse todo : page) {
+                assertEquals("sunny", todo.getWeather());
+                assertTrue(ids.add(todo.getId()));
+            }
+            if (!page.isEmpty()) {
+                cursorAt = page.get(page.size() - 1).getModifiedAt();
+                cursorId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 4);
+
+        // then
+        assertEquals(15, ids.size());
+    }
+
+    @Test
+    public void 담당자로_필터링하면_내가_담당한_일정만_조회한다() {
+        // given
+        TodoFilter filter = new TodoFilter(null, owner.getId(), null, null, null, null, null);
+
+        // when
+        List<TodoResponse> todos = todoQueryRepository.findPage(filter, MAX_CURSOR_AT, Long.MAX_VALUE, 100);
+
+        // then
+        // 직접 만든 10개 + 담당자로 추가된 1개
+        assertEquals(11, todos.size());
+    }
+
+    private String explain(TodoFilter filter) {
+        return jdbcTemplate.queryForObject(
+                "EXPLAIN " + todoQueryRepository.buildSql(filter),
+                todoQueryRepository.bindParams(filter, MAX_CURSOR_AT, Long.MAX_VALUE, 10),
+                String.class
+        );
+    }
+
+    // todos 를 읽는 첫 접근 경로가, 걸린 필터 중 하나의 컬럼으로 범위를 좁히는 인덱스인지 확인합니다.
+    // 필터가 없으면 modified_at 인덱스를 커서부터 역순으로 읽는 것이 맞습니다.
+    private static boolean usesFilterIndex(TodoFilter filter, String plan) {
+        List<Pattern> expected = new ArrayList<>();
+        if (filter.getOwnerId() != null) {
+            expected.add(Pattern.compile("IDX_TODOS_USER_ID_MODIFIED_AT: USER_ID ="));
+        }
+        if (filter.getManagerId() != null) {
+            expected.add(Pattern.compile("PRIMARY_KEY_\\w+: ID IN\\(SELECT"));
+        }
+        if (filter.getWeather() != null) {
+            expected.add(Pattern.compile("IDX_TODOS_WEATHER_MODIFIED_AT: WEATHER ="));
+        }
+        if (filter.getCreatedFrom() != null) {
+            expected.add(Pattern.compile("IDX_TODOS_CREATED_AT: CREATED_AT >="));
+        }
+        if (filter.getModifiedFrom() != null) {
+            expected.add(Pattern.compile("IDX_TODOS_MODIFIED_AT: MODIFIED_AT >="));
+        }
+        if (expected.isEmpty()) {
+            expected.add(Pattern.compile("IDX_TODOS_MODIFIED_AT: MODIFIED_AT <="));
+        }
+
+        Matcher access = Pattern.compile("/\\* PUBLIC\\.(.*)").matcher(plan);
+        if (!access.find()) {
+            return false;
+        }
+        String todosAccess = access.group(1);
+        return expected.stream().anyMatch(pattern -> pattern.matcher(todosAccess).lookingAt());
+    }
+}
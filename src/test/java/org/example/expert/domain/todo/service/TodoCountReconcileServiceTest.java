@@ -0,0 +1,67 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==")
+public class TodoCountReconcileServiceTest {
+    @Autowired
+    private TodoCountReconcileService todoCountReconcileService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @AfterEach
+    public void tearDown() {
+        commentRepository.deleteAll();
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void 실제_개수와_다른_일정만_고친다() {
+        // given
+        User user = userRepository.save(new User("user@gmail.com", "password", UserRole.USER));
+        Todo drifted = todoRepository.save(new Todo("title1", "contents", "sunny", user));
+        Todo correct = todoRepository.save(new Todo("title2", "contents", "sunny", user));
+        // 증감 쿼리를 거치지 않고 저장해서 comment_count 가 0 으로 남은 일정
+        commentRepository.save(new Comment("contents", user, drifted));
+        jdbcTemplate.update("UPDATE todos SET manager_count = 3 WHERE id = ?", drifted.getId());
+
+        // when
+        int fixed = todoCountReconcileService.reconcile();
+
+        // then
+        assertEquals(1, fixed);
+        Todo found = todoRepository.findById(drifted.getId()).orElseThrow();
+        assertEquals(1, found.getCommentCount());
+        assertEquals(1, found.getManagerCount());
+        assertEquals(0, todoRepository.findById(correct.getId()).orElseThrow().getCommentCount());
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==",
+        "todo.export.batch-size=2"
+})
+public class TodoExportServiceTest {
+    @Autowired
+    private TodoExportService todoExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    private User owner;
+    private User manager;
+    private Todo todo1;
+
+    @BeforeEach
+    public void setUp() {
+        owner = userRepository.save(new User("owner@gmail.com", "password", UserRole.USER));
+        manager = userRepository.save(new User("manager@gmail.com", "password", UserRole.USER));
+        todo1 = todoRepository.save(new Todo("title1", "contents, with \"quotes\"\nand newline", "sunny", owner));
+        todoRepository.save(new Todo("title2", "contents", "rainy", owner));
+        todoRepository.save(new Todo("title3", "contents", "cloudy", owner));
+        managerRepository.save(new Manager(manager, todo1));
+        commentRepository.save(new Comment("comment1", manager, todo1));
+        commentRepository.save(new Comment("comment2", owner, todo1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commentRepository.deleteAll();
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void 일정마다_담당자와_댓글을_담은_NDJSON_한_줄을_쓴다() throws Exception {
+        // given
+        StringWriter writer = new StringWriter();
+
+        // when
+        long count = todoExportService.export(TodoExportFormat.NDJSON, writer);
+
+        // then
+        List<String> lines = writer.toString().lines().toList();
+        assertEquals(3, count);
+        assertEquals(3, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(todo1.getId(), first.get("id").asLong());
+        assertEquals("owner@gmail.com", first.get("user").get("email").asText());
+        assertEquals(2, first.get("managers").size());
+        assertEquals("manager@gmail.com", first.get("managers").get(1).get("user").get("email").asText());
+        assertEquals(2, first.get("comments").size());
+        assertEquals("comment1", first.get("comments").get(0).get("contents").asText());
+        assertEquals("title3", objectMapper.readTree(lines.get(2)).get("title").asText());
+    }
+
+    @Test
+    public void CSV_는_일정_줄_뒤에_담당자와_댓글_줄을_쓰고_특수문자를_감싼다() throws Exception {
+        // given
+        StringWriter writer = new StringWriter();
+
+        // when
+        todoExportService.export(TodoExportFormat.CSV, writer);
+
+        // then
+        String csv = writer.toString();
+        String[] records = csv.split("\n(?=(todo|manager|comment),)");
+        assertEquals("type,todo_id,id,user_id,user_email,title,contents,weather,created_at,modified_at", records[0]);
+        assertEquals(1 + 3 + 4 + 2, records.length);
+        String todoRecord = records[1];
+        assertEquals("todo," + todo1.getId() + "," + todo1.getId() + "," + owner.getId() + ",owner@gmail.com,title1,"
+                + "\"contents, with \"\"quotes\"\"\nand newline\",sunny,", todoRecord.substring(0, todoRecord.indexOf("sunny,") + 6));
+        assertEquals("manager," + todo1.getId(), records[3].substring(0, records[3].indexOf(',', 8)));
+        assertEquals("comment," + todo1.getId(), records[4].substring(0, records[4].indexOf(',', 8)));
+    }
+}
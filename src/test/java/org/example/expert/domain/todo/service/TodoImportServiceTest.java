@@ -0,0 +1,141 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.search.service.SearchReindexService;
+import org.example.expert.domain.todo.dto.TodoExportManagerRow;
+import org.example.expert.domain.todo.dto.response.TodoImportError;
+import org.example.expert.domain.todo.dto.response.TodoImportProgress;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==",
+        "todo.import.batch-size=2"
+})
+public class TodoImportServiceTest {
+    @Autowired
+    private TodoImportService todoImportService;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @MockBean
+    private SearchReindexService searchReindexService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @AfterEach
+    public void tearDown() {
+        commentRepository.deleteAll();
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void NDJSON_을_묶음마다_저장하고_실패한_줄을_알려준다() throws Exception {
+        // given
+        User owner = userRepository.save(new User("owner@gmail.com", "password", UserRole.USER));
+        given(weatherClient.getTodayWeather()).willReturn("sunny");
+        String ndjson = """
+                {"title":"title1","contents":"contents1","weather":"rainy","ownerId":%d}
+                {"title":"title2","contents":"contents2","ownerId":%d}
+                not json
+
+                {"contents":"contents4","ownerId":%d}
+                {"title":"title5","contents":"contents5","ownerId":%d}
+                """.formatted(owner.getId(), owner.getId(), owner.getId(), owner.getId() + 1000);
+        List<TodoImportProgress> progresses = new ArrayList<>();
+
+        // when
+        TodoImportProgress result = todoImportService.importTodos(new BufferedReader(new StringReader(ndjson)), progresses::add);
+
+        // then
+        assertEquals(3, progresses.size());
+        assertEquals(5, result.getProcessed());
+        assertEquals(2, result.getCreated());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(3L, 5L, 6L), progresses.stream()
+                .flatMap(progress -> progress.getErrors().stream())
+                .map(TodoImportError::getLine)
+                .toList());
+        assertEquals("존재하지 않는 작성자입니다.", progresses.get(2).getErrors().get(0).getMessage());
+        verify(weatherClient, times(1)).getTodayWeather();
+
+        List<Todo> todos = todoRepository.findAll().stream().sorted(Comparator.comparing(Todo::getId)).toList();
+        assertEquals(List.of("rainy", "sunny"), todos.stream().map(Todo::getWeather).toList());
+        assertEquals(1, todos.get(0).getManagerCount());
+        assertEquals(0, todos.get(0).getCommentCount());
+        List<TodoExportManagerRow> managers = managerRepository.findExportRowsByTodoIdIn(todos.stream().map(Todo::getId).toList());
+        assertEquals(2, managers.size());
+        assertEquals(owner.getId(), managers.get(0).getUserId());
+        // 저장한 묶음의 id 범위만 색인합니다.
+        verify(searchReindexService, times(1)).reindexTodos(todos.get(0).getId(), todos.get(1).getId());
+    }
+
+    @Test
+    public void 날씨_API_연결에_실패해도_날씨가_있는_줄은_가져온다() throws Exception {
+        // given
+        User owner = userRepository.save(new User("owner@gmail.com", "password", UserRole.USER));
+        given(weatherClient.getTodayWeather()).willThrow(new ResourceAccessException("Connection refused"));
+        String ndjson = """
+                {"title":"title1","contents":"contents1","ownerId":%d}
+                {"title":"title2","contents":"contents2","weather":"rainy","ownerId":%d}
+                """.formatted(owner.getId(), owner.getId());
+        List<TodoImportProgress> progresses = new ArrayList<>();
+
+        // when
+        TodoImportProgress result = todoImportService.importTodos(new BufferedReader(new StringReader(ndjson)), progresses::add);
+
+        // then
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals("날씨 데이터를 가져오지 못했습니다.", result.getErrors().get(0).getMessage());
+        assertEquals(List.of("rainy"), todoRepository.findAll().stream().map(Todo::getWeather).toList());
+    }
+
+    @Test
+    public void 빈_업로드도_결과_한_줄을_돌려준다() throws Exception {
+        // given
+        List<TodoImportProgress> progresses = new ArrayList<>();
+
+        // when
+        todoImportService.importTodos(new BufferedReader(new StringReader("")), progresses::add);
+
+        // then
+        assertEquals(1, progresses.size());
+        assertEquals(0, progresses.get(0).getProcessed());
+    }
+}
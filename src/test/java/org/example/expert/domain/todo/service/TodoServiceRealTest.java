@@ -0,0 +1,61 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.QueryCountMode;
+import org.example.expert.config.QueryCounter;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==")
+public class TodoServiceRealTest {
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @AfterEach
+    public void tearDown() {
+        QueryCounter.stop();
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void 여러_일정을_작성자와_함께_쿼리_한번으로_가져온다() {
+        // given
+        User user1 = userRepository.save(new User("user1@gmail.com", "password", UserRole.USER));
+        User user2 = userRepository.save(new User("user2@gmail.com", "password", UserRole.USER));
+        Todo todo1 = todoRepository.save(new Todo("title1", "contents", "sunny", user1));
+        Todo todo2 = todoRepository.save(new Todo("title2", "contents", "sunny", user2));
+
+        // when
+        QueryCounter.start(QueryCountMode.FAIL, 1);
+        TodoBatchResponse response = todoService.getTodos(List.of(todo2.getId(), todo1.getId()));
+        int count = QueryCounter.stop();
+
+        // then
+        assertEquals(1, count);
+        assertEquals("user2@gmail.com", response.getTodos().get(0).getUser().getEmail());
+        assertEquals("user1@gmail.com", response.getTodos().get(1).getUser().getEmail());
+    }
+}
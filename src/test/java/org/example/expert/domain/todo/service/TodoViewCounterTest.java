@@ -0,0 +1,110 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoViewMetricsResponse;
+import org.example.expert.domain.todo.repository.TodoViewCountBatchRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class TodoViewCounterTest {
+
+    private final TodoViewCountBatchRepository todoViewCountBatchRepository = mock(TodoViewCountBatchRepository.class);
+
+    // addViewCounts 에 넘어온 값을 일정별로 합칩니다.
+    private Map<Long, Long> captureFlushed() {
+        Map<Long, Long> flushed = new HashMap<>();
+        doAnswer(invocation -> {
+            List<Map.Entry<Long, Long>> batch = invocation.getArgument(0);
+            for (Map.Entry<Long, Long> delta : batch) {
+                flushed.merge(delta.getKey(), delta.getValue(), Long::sum);
+            }
+            return null;
+        }).when(todoViewCountBatchRepository).addViewCounts(anyList());
+        return flushed;
+    }
+
+    @Test
+    public void 여러_스레드의_조회를_잃지_않고_일정별로_한_번에_더한다() throws Exception {
+        // given
+        TodoViewCounter todoViewCounter = new TodoViewCounter(todoViewCountBatchRepository, 500);
+        Map<Long, Long> flushed = captureFlushed();
+        int threads = 4;
+        int viewsPerThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < viewsPerThread; i++) {
+                    todoViewCounter.increment(i % 2 == 0 ? 1L : 2L);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        // when
+        start.countDown();
+        // 조회가 들어오는 도중에도 flush 합니다.
+        todoViewCounter.flush();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        todoViewCounter.flush();
+
+        // then
+        assertEquals(threads * viewsPerThread / 2, flushed.get(1L));
+        assertEquals(threads * viewsPerThread / 2, flushed.get(2L));
+    }
+
+    @Test
+    public void 배치_크기를_넘으면_나눠서_UPDATE_한다() {
+        // given
+        TodoViewCounter todoViewCounter = new TodoViewCounter(todoViewCountBatchRepository, 2);
+        for (long todoId = 1; todoId <= 5; todoId++) {
+            todoViewCounter.increment(todoId);
+        }
+
+        // when
+        int flushed = todoViewCounter.flush();
+
+        // then
+        assertEquals(5, flushed);
+        verify(todoViewCountBatchRepository, times(3)).addViewCounts(anyList());
+        TodoViewMetricsResponse metrics = todoViewCounter.getMetrics();
+        assertEquals(5, metrics.getLastBatchSize());
+        assertEquals(5, metrics.getFlushedViews());
+    }
+
+    @Test
+    public void 반영에_실패하면_다음_flush_에서_다시_더한다() {
+        // given
+        TodoViewCounter todoViewCounter = new TodoViewCounter(todoViewCountBatchRepository, 500);
+        todoViewCounter.increment(1L);
+        todoViewCounter.increment(1L);
+        doThrow(new QueryTimeoutException("timeout")).when(todoViewCountBatchRepository).addViewCounts(anyList());
+        todoViewCounter.flush();
+        Map<Long, Long> flushed = captureFlushed();
+
+        // when
+        todoViewCounter.increment(1L);
+        todoViewCounter.flush();
+
+        // then
+        assertEquals(3L, flushed.get(1L));
+        assertEquals(1, todoViewCounter.getMetrics().getFailedFlushCount());
+    }
+}
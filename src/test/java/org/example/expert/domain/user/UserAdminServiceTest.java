@@ -1,5 +1,6 @@
 package org.example.expert.domain.user;
 
+import org.example.expert.domain.auth.service.TokenEpochService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
@@ -28,6 +29,9 @@ public class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -61,7 +65,9 @@ public class UserAdminServiceTest {
 
             //then
             verify(user, times(1)).updateRole(UserRole.of(request.getRole()));
+            verify(tokenEpochService, times(1)).invalidate(userId);
             assertEquals(UserRole.of(request.getRole()), user.getUserRole());
+            assertEquals(1, user.getTokenVersion());
         }
     }
 }
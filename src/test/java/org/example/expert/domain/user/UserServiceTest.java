@@ -1,6 +1,9 @@
 package org.example.expert.domain.user;
 
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.RefreshTokenService;
+import org.example.expert.domain.auth.service.TokenEpochService;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -33,6 +37,15 @@ public class UserServiceTest {
     @Spy
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @Spy
     @InjectMocks
     private UserService userService;
@@ -208,14 +221,56 @@ public class UserServiceTest {
             UserChangePasswordRequest request = new UserChangePasswordRequest("oldPASSWORD123", "newPASSWORD123");
 
             given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+            given(userRepository.updatePassword(eq(userId), eq(oldPassword), anyString())).willReturn(1);
 
             // when
             userService.changePassword(userId, request);
 
             // then
+            ArgumentCaptor<String> encodedPassword = ArgumentCaptor.forClass(String.class);
             verify(userRepository, times(1)).findById(userId);
+            verify(userRepository, times(1)).updatePassword(eq(userId), eq(oldPassword), encodedPassword.capture());
             verify(passwordEncoder, times(2)).matches(anyString(), anyString());
-            assertTrue(passwordEncoder.matches(request.getNewPassword(), user.getPassword()));
+            verify(tokenEpochService, times(1)).invalidate(userId);
+            verify(refreshTokenService, times(1)).revokeAll(userId);
+            assertTrue(passwordEncoder.matches(request.getNewPassword(), encodedPassword.getValue()));
+        }
+
+        @Test
+        public void 검증_중에_비밀번호가_바뀌어서_에러_발생() {
+            // given
+            long userId = 1L;
+            String oldPassword = passwordEncoder.encode("oldPASSWORD123");
+            User user = spy(User.class);
+            ReflectionTestUtils.setField(user, "password", oldPassword);
+            UserChangePasswordRequest request = new UserChangePasswordRequest("oldPASSWORD123", "newPASSWORD123");
+
+            given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+            given(userRepository.updatePassword(eq(userId), eq(oldPassword), anyString())).willReturn(0);
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> userService.changePassword(userId, request));
+
+            // then
+            verify(tokenEpochService, never()).invalidate(userId);
+            verify(refreshTokenService, never()).revokeAll(userId);
+            assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    class LogoutTest {
+        @Test
+        public void 로그아웃하면_발급된_토큰을_폐기한다() {
+            // given
+            long userId = 1L;
+
+            // when
+            userService.logout(userId);
+
+            // then
+            verify(tokenRevocationService, times(1)).revokeAll(userId);
+            verify(refreshTokenService, times(1)).revokeAll(userId);
         }
     }
 
@@ -0,0 +1,164 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.dto.response.UserImportResult;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserImportStatus;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==",
+        "user.import.batch-size=2"
+})
+public class UserImportServiceRealTest {
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserEmailBloomFilter userEmailBloomFilter;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void CSV_업로드를_줄별_결과와_함께_저장한다() throws Exception {
+        // given
+        userRepository.save(new User("exists@gmail.com", "password", UserRole.USER));
+        userEmailBloomFilter.add("exists@gmail.com");
+        String csv = """
+                email,password,userRole
+                a@gmail.com,"PASS,WORD1",USER
+                b@gmail.com,PASSWORD2,admin
+                a@gmail.com,PASSWORD3,USER
+                exists@gmail.com,PASSWORD4,USER
+                c@gmail.com,PASSWORD5,OWNER
+                not-an-email,PASSWORD6,USER
+                """;
+        List<List<UserImportResult>> chunks = new ArrayList<>();
+
+        // when
+        userImportService.importUsers(new BufferedReader(new StringReader(csv)), UserImportFormat.CSV, chunks::add);
+
+        // then
+        List<UserImportResult> results = chunks.stream().flatMap(List::stream).toList();
+        assertEquals(3, chunks.size());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L), results.stream().map(UserImportResult::getLine).toList());
+        assertEquals(List.of(
+                UserImportStatus.CREATED,
+                UserImportStatus.CREATED,
+                UserImportStatus.DUPLICATE,
+                UserImportStatus.DUPLICATE,
+                UserImportStatus.INVALID,
+                UserImportStatus.INVALID
+        ), results.stream().map(UserImportResult::getStatus).toList());
+
+        User a = userRepository.findByEmail("a@gmail.com").orElseThrow();
+        User b = userRepository.findByEmail("b@gmail.com").orElseThrow();
+        assertEquals(a.getId(), results.get(0).getUserId());
+        assertEquals(b.getId(), results.get(1).getUserId());
+        assertTrue(passwordEncoder.matches("PASS,WORD1", a.getPassword()));
+        assertEquals(UserRole.ADMIN, b.getUserRole());
+        assertEquals(0, b.getTokenVersion());
+        assertNotNull(b.getCreatedAt());
+        assertEquals(3, userRepository.count());
+        assertTrue(userEmailBloomFilter.mightExist("b@gmail.com"));
+    }
+
+    @Test
+    public void NDJSON_업로드도_저장한다() throws Exception {
+        // given
+        String ndjson = """
+                {"email":"a@gmail.com","password":"PASSWORD1","userRole":"USER"}
+                {"email":"b@gmail.com",
+                {"email":"c@gmail.com","password":"PASSWORD3","userRole":"USER"}
+                """;
+        List<UserImportResult> results = new ArrayList<>();
+
+        // when
+        userImportService.importUsers(new BufferedReader(new StringReader(ndjson)), UserImportFormat.NDJSON, results::addAll);
+
+        // then
+        assertEquals(List.of(
+                UserImportStatus.CREATED,
+                UserImportStatus.INVALID,
+                UserImportStatus.CREATED
+        ), results.stream().map(UserImportResult::getStatus).toList());
+        assertEquals(2, userRepository.count());
+    }
+
+    @Test
+    public void 묶음_안에서_대소문자만_다른_이메일도_중복으로_본다() throws Exception {
+        // given
+        String ndjson = """
+                {"email":"a@gmail.com","password":"PASSWORD1","userRole":"USER"}
+                {"email":"A@Gmail.com","password":"PASSWORD2","userRole":"USER"}
+                {"email":"a@gmail.com","password":"PASSWORD3","userRole":"USER"}
+                """;
+        List<UserImportResult> results = new ArrayList<>();
+
+        // when
+        userImportService.importUsers(new BufferedReader(new StringReader(ndjson)), UserImportFormat.NDJSON, results::addAll);
+
+        // then
+        assertEquals(List.of(
+                UserImportStatus.CREATED,
+                UserImportStatus.DUPLICATE,
+                UserImportStatus.DUPLICATE
+        ), results.stream().map(UserImportResult::getStatus).toList());
+        assertEquals("파일 안에 중복된 이메일입니다.", results.get(1).getMessage());
+        // 앞 묶음에서 저장한 이메일은 Bloom filter 와 IN 쿼리로 걸러집니다.
+        assertEquals("이미 존재하는 이메일입니다.", results.get(2).getMessage());
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    public void 다른_묶음이나_기존_사용자와_대소문자만_다른_이메일도_중복으로_본다() throws Exception {
+        // given
+        userRepository.save(new User("Exists@Gmail.com", "password", UserRole.USER));
+        userEmailBloomFilter.add("Exists@Gmail.com");
+        String ndjson = """
+                {"email":"a@gmail.com","password":"PASSWORD1","userRole":"USER"}
+                {"email":"b@gmail.com","password":"PASSWORD2","userRole":"USER"}
+                {"email":"A@Gmail.com","password":"PASSWORD3","userRole":"USER"}
+                {"email":"exists@gmail.com","password":"PASSWORD4","userRole":"USER"}
+                """;
+        List<UserImportResult> results = new ArrayList<>();
+
+        // when
+        userImportService.importUsers(new BufferedReader(new StringReader(ndjson)), UserImportFormat.NDJSON, results::addAll);
+
+        // then
+        assertEquals(List.of(
+                UserImportStatus.CREATED,
+                UserImportStatus.CREATED,
+                UserImportStatus.DUPLICATE,
+                UserImportStatus.DUPLICATE
+        ), results.stream().map(UserImportResult::getStatus).toList());
+        assertEquals("이미 존재하는 이메일입니다.", results.get(2).getMessage());
+        assertEquals("이미 존재하는 이메일입니다.", results.get(3).getMessage());
+        assertEquals(3, userRepository.count());
+        // 이메일은 소문자로 저장됩니다.
+        assertTrue(userRepository.findByEmail("exists@gmail.com").isPresent());
+    }
+}